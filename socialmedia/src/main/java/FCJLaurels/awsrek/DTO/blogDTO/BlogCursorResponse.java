@@ -14,5 +14,7 @@ public class BlogCursorResponse {
     private String nextCursor;
     private boolean hasMore;
     private int size;
+    // True when author info could not be resolved for every blog within the enrichment budget
+    private boolean enrichmentPartial;
 }
 
@@ -1,5 +1,6 @@
 package FCJLaurels.awsrek.DTO.blogDTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,12 @@ public class BlogDisplay {
     private String authorAvatar;
     private String title;
     private String imageURL;
+    // Full body, only on single-blog reads; feed pages leave it null and carry the excerpt
     private String content;
+    private String excerpt;
     private LocalDateTime creationDate;
+    // Home timeline only: the viewer and the author follow each other. Left out of viewer-independent
+    // (shared, cached) responses, and while the follow graph is loading.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean mutualFollow;
 }
@@ -19,5 +19,7 @@ public class BlogPageResponse {
     private boolean hasPrevious;
     private String nextCursor;
     private String previousCursor;
+    // True when author info could not be resolved for every blog within the enrichment budget
+    private boolean enrichmentPartial;
 }
 
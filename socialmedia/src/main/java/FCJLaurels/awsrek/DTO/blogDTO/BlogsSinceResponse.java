@@ -0,0 +1,23 @@
+package FCJLaurels.awsrek.DTO.blogDTO;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BlogsSinceResponse {
+    // Blogs newer than the head cursor, newest first (empty when only the count was asked for)
+    private List<BlogDisplay> content;
+    // Count only: number of blogs newer than the head cursor; otherwise the number returned
+    private long count;
+    // Head cursor to poll with next: the newest blog returned, or the request's cursor if none were
+    private String headCursor;
+    // More new blogs than the limit: poll again with headCursor for the rest
+    private boolean hasMore;
+    // True when author info could not be resolved for every blog within the enrichment budget
+    private boolean enrichmentPartial;
+}
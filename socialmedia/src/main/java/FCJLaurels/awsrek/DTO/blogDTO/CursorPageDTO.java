@@ -10,4 +10,6 @@ import java.util.List;
 public class CursorPageDTO<T> {
     private List<T> data;
     private String nextCursor;
+    // True when author info could not be resolved for every item within the enrichment budget
+    private boolean enrichmentPartial;
 }
@@ -0,0 +1,14 @@
+package FCJLaurels.awsrek.DTO.followDTO;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FollowCountsDTO {
+    private String userId;
+    private long followers;
+    private long following;
+}
@@ -0,0 +1,16 @@
+package FCJLaurels.awsrek.DTO.followDTO;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FollowDTO {
+    private String followerId;
+    private String followeeId;
+    private LocalDateTime creationDate;
+}
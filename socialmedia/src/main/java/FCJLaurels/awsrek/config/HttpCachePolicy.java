@@ -0,0 +1,30 @@
+package FCJLaurels.awsrek.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control for the public, viewer-independent blog reads, so a CDN or the client can reuse them and
+ * revalidate with If-None-Match once they expire.
+ */
+@Component
+public class HttpCachePolicy {
+
+    @Value("${blog.http.display-max-age-seconds:60}")
+    private long displayMaxAgeSeconds;
+
+    // Feed pages change with every new blog; keep shared copies short-lived
+    @Value("${blog.http.feed-max-age-seconds:5}")
+    private long feedMaxAgeSeconds;
+
+    public CacheControl blogDisplay() {
+        return CacheControl.maxAge(Duration.ofSeconds(displayMaxAgeSeconds)).cachePublic();
+    }
+
+    public CacheControl feedPage() {
+        return CacheControl.maxAge(Duration.ofSeconds(feedMaxAgeSeconds)).cachePublic();
+    }
+}
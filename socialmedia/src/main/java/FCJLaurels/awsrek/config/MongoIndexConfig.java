@@ -0,0 +1,107 @@
+package FCJLaurels.awsrek.config;
+
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.model.comment;
+import FCJLaurels.awsrek.model.follow;
+import FCJLaurels.awsrek.model.followStats;
+import FCJLaurels.awsrek.model.like;
+import FCJLaurels.awsrek.model.timelineEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates the indexes the feed and timeline queries rely on. Done once the application is ready, off the main
+ * thread, instead of through mapping annotations, so startup never waits on (or fails because of) the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexConfig {
+
+    // Keyset feed paging: ORDER BY creationDate DESC, _id DESC with range bounds on creationDate
+    public static final String BLOG_FEED_INDEX = "creationDate_id_desc";
+
+    // Merge-on-read of celebrity posts into home timelines, and follow backfill
+    public static final String BLOG_AUTHOR_FEED_INDEX = "author_creationDate_id_desc";
+
+    // Home timeline page: one range read per owner in feed order
+    public static final String TIMELINE_FEED_INDEX = "ownerId_creationDate_blogId_desc";
+
+    private final MongoTemplate mongoTemplate;
+
+    // Home timeline entries older than this are removed by Mongo's TTL monitor
+    @Value("${blog.timeline.retention-days:30}")
+    private long timelineRetentionDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        CompletableFuture.runAsync(() -> {
+            ensure(blog.class, new Index()
+                    .on("creationDate", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named(BLOG_FEED_INDEX));
+            ensure(blog.class, new Index()
+                    .on("author", Sort.Direction.ASC)
+                    .on("creationDate", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named(BLOG_AUTHOR_FEED_INDEX));
+
+            ensure(follow.class, new Index()
+                    .on("followerId", Sort.Direction.ASC)
+                    .on("creationDate", Sort.Direction.DESC)
+                    .named("followerId_creationDate_desc"));
+            ensure(follow.class, new Index()
+                    .on("followeeId", Sort.Direction.ASC)
+                    .on("creationDate", Sort.Direction.DESC)
+                    .named("followeeId_creationDate_desc"));
+            ensure(followStats.class, new Index()
+                    .on("followers", Sort.Direction.DESC)
+                    .named("followers_desc"));
+
+            // Trending rebuild: likes and comments of the recent window
+            ensure(like.class, new Index()
+                    .on("creationDate", Sort.Direction.DESC)
+                    .named("creationDate_desc"));
+            ensure(comment.class, new Index()
+                    .on("creationDate", Sort.Direction.DESC)
+                    .named("creationDate_desc"));
+
+            ensure(timelineEntry.class, new Index()
+                    .on("ownerId", Sort.Direction.ASC)
+                    .on("creationDate", Sort.Direction.DESC)
+                    .on("blogId", Sort.Direction.DESC)
+                    .named(TIMELINE_FEED_INDEX));
+            ensure(timelineEntry.class, new Index()
+                    .on("blogId", Sort.Direction.ASC)
+                    .named("blogId"));
+            ensure(timelineEntry.class, new Index()
+                    .on("author", Sort.Direction.ASC)
+                    .named("author"));
+            ensure(timelineEntry.class, new Index()
+                    .on("creationDate", Sort.Direction.ASC)
+                    .expire(Duration.ofDays(timelineRetentionDays))
+                    .named("creationDate_ttl"));
+        });
+    }
+
+    private void ensure(Class<?> entity, Index index) {
+        String name = index.getIndexOptions().getString("name");
+        String collection = mongoTemplate.getCollectionName(entity);
+        try {
+            mongoTemplate.indexOps(entity).createIndex(index);
+            log.info("🗂️  Mongo index '{}' ensured on {}", name, collection);
+        } catch (Exception e) {
+            log.error("❌ Could not ensure Mongo index '{}' on {}: {}", name, collection, e.getMessage());
+        }
+    }
+}
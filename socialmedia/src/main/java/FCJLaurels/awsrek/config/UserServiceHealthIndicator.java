@@ -0,0 +1,30 @@
+package FCJLaurels.awsrek.config;
+
+import FCJLaurels.awsrek.service.UserGrpcClientService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health of the user-info gRPC dependency, from the cached background probe (no call per check).
+ * Reported as UP with details even when the user service is down: feeds keep working with snapshots
+ * and cached authors, so it must not take this service out of rotation.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserServiceHealthIndicator implements HealthIndicator {
+
+    private final UserGrpcClientService userGrpcClientService;
+
+    @Override
+    public Health health() {
+        UserGrpcClientService.HealthState state = userGrpcClientService.getHealthState();
+        return Health.up()
+                .withDetail("reachable", state.healthy())
+                .withDetail("servingStatus", state.status())
+                .withDetail("checkedAt", state.checkedAt() != null ? state.checkedAt().toString() : "never")
+                .withDetail("circuitBreaker", userGrpcClientService.getCircuitBreakerState().name())
+                .build();
+    }
+}
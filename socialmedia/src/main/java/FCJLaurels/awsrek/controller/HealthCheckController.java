@@ -21,15 +21,20 @@ public class HealthCheckController {
     @Autowired
     private UserGrpcClientService userGrpcClientService;
 
+    // Reads the result of the background grpc.health.v1 probe, does not call the user service
     @GetMapping("/grpc")
     @Operation(summary = "Check gRPC service connectivity")
     public ResponseEntity<Map<String, Object>> checkGrpcHealth() {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            boolean isHealthy = userGrpcClientService.isServerHealthy();
+            UserGrpcClientService.HealthState healthState = userGrpcClientService.getHealthState();
+            boolean isHealthy = healthState.healthy();
             response.put("status", isHealthy ? "UP" : "DOWN");
             response.put("service", "user-info-grpc");
+            response.put("servingStatus", healthState.status());
+            response.put("checkedAt", healthState.checkedAt() != null ? healthState.checkedAt().toString() : null);
+            response.put("circuitBreaker", userGrpcClientService.getCircuitBreakerState().name());
             response.put("timestamp", java.time.LocalDateTime.now().toString());
 
             if (isHealthy) {
@@ -7,7 +7,12 @@ import FCJLaurels.awsrek.DTO.blogDTO.BlogPageResponse;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogCursorResponse;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
 import FCJLaurels.awsrek.DTO.blogDTO.CursorPageDTO;
+import FCJLaurels.awsrek.DTO.blogDTO.BlogsSinceResponse;
+import FCJLaurels.awsrek.config.HttpCachePolicy;
+import FCJLaurels.awsrek.service.blogging.BlogCursor;
 import FCJLaurels.awsrek.service.blogging.BlogService;
+import FCJLaurels.awsrek.service.blogging.Conditional;
+import FCJLaurels.awsrek.service.blogging.LiveBlogBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,9 +22,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,6 +40,8 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
+    private final LiveBlogBroadcaster liveBlogBroadcaster;
+    private final HttpCachePolicy httpCachePolicy;
 
     /**
      * Create a new blog post
@@ -204,7 +216,8 @@ public class BlogController {
      */
     @Operation(
         summary = "Get paginated blogs",
-        description = "Retrieves blogs with traditional offset-based pagination. Useful for page numbers display."
+        description = "Retrieves blogs with traditional offset-based pagination. Useful for page numbers display. " +
+                      "Pass includeTotal=false when page numbers are not shown to skip the total count."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved paginated blogs",
@@ -214,8 +227,9 @@ public class BlogController {
     })
     @GetMapping("/paginated")
     public ResponseEntity<BlogPageResponse> getPaginatedBlogs(@RequestParam(defaultValue = "0") int page,
-                                                              @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(blogService.getPaginatedBlogs(page, size));
+                                                              @RequestParam(defaultValue = "10") int size,
+                                                              @RequestParam(defaultValue = "true") boolean includeTotal) {
+        return ResponseEntity.ok(blogService.getPaginatedBlogs(page, size, includeTotal));
     }
 
     /**
@@ -223,6 +237,7 @@ public class BlogController {
      *
      * Response Codes:
      * - 200 OK: Successfully retrieved blogs with cursor
+     * - 304 NOT MODIFIED: Page unchanged since the ETag sent in If-None-Match
      * - 400 BAD REQUEST: Invalid cursor or size parameter
      * - 500 INTERNAL SERVER ERROR: Server error during retrieval
      */
@@ -235,13 +250,19 @@ public class BlogController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved blogs",
             content = @Content(schema = @Schema(implementation = BlogCursorResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Page not modified"),
         @ApiResponse(responseCode = "400", description = "Invalid cursor or size parameter"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/feed")
-    public ResponseEntity<BlogCursorResponse> getBlogsFeed(@RequestParam(required = false) String cursor,
-                                                           @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(blogService.getBlogsByCursor(cursor, size));
+    public ResponseEntity<byte[]> getBlogsFeed(@RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "10") int size,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            return feedPageResponse(blogService.getBlogsByCursorJson(cursor, size, ifNoneMatch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -249,6 +270,7 @@ public class BlogController {
      *
      * Response Codes:
      * - 200 OK: Successfully retrieved newest blogs with display information
+     * - 304 NOT MODIFIED: Page unchanged since the ETag sent in If-None-Match
      * - 400 BAD REQUEST: Invalid cursor or size parameter
      * - 500 INTERNAL SERVER ERROR: Server error during retrieval
      */
@@ -261,16 +283,201 @@ public class BlogController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved newest blogs",
             content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Page not modified"),
         @ApiResponse(responseCode = "400", description = "Invalid cursor or size parameter"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/newest/cursor")
-    public ResponseEntity<CursorPageDTO<BlogDisplay>> getNewestBlogsWithCursor(
-            @Parameter(description = "Cursor for pagination (Base64 encoded timestamp)", required = false)
+    public ResponseEntity<byte[]> getNewestBlogsWithCursor(
+            @Parameter(description = "Cursor for pagination (opaque nextCursor token from the previous page)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of blogs to retrieve", required = false)
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            return feedPageResponse(blogService.getNewestBlogsWithCursorJson(cursor, size, ifNoneMatch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get blogs newer than a head cursor ("new posts" polling)
+     *
+     * Response Codes:
+     * - 200 OK: Blogs newer than the cursor (or just their count); empty when there is nothing new
+     * - 400 BAD REQUEST: Missing or invalid cursor, or invalid limit parameter
+     * - 500 INTERNAL SERVER ERROR: Server error during retrieval
+     */
+    @Operation(
+        summary = "Get blogs newer than a head cursor",
+        description = "Returns the blogs created after the given head cursor (the first item's cursor of the client's feed), " +
+                      "newest first, or only their number with countOnly=true. Poll again with the returned 'headCursor'. " +
+                      "When nothing is new the answer comes from memory, without a database query."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully checked for new blogs",
+            content = @Content(schema = @Schema(implementation = BlogsSinceResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid cursor, or invalid limit parameter"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/newest/since")
+    public ResponseEntity<BlogsSinceResponse> getBlogsSince(
+            @Parameter(description = "Cursor of the newest blog the client has", required = true)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of new blogs to return", required = false)
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Only count the new blogs", required = false)
+            @RequestParam(defaultValue = "false") boolean countOnly) {
+        if (cursor == null || cursor.isEmpty() || limit <= 0 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(blogService.getBlogsSince(cursor, limit, countOnly));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get the home timeline of the current user: their own blogs and those of the users they follow
+     *
+     * Response Codes:
+     * - 200 OK: Successfully retrieved the home timeline (empty if the user follows no one)
+     * - 400 BAD REQUEST: Invalid cursor or size parameter
+     * - 401 UNAUTHORIZED: Missing or invalid user ID in header
+     */
+    @Operation(
+        summary = "Get home timeline (cursor pagination)",
+        description = "Retrieves blogs by the current user (X-User-Id header) and the users they follow, newest first, " +
+                      "in BlogDisplay format, with mutualFollow set when the user and the author follow each other. " +
+                      "Pass the 'nextCursor' from the previous response to load more blogs."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved home timeline",
+            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or size parameter"),
+        @ApiResponse(responseCode = "401", description = "Missing or invalid user ID")
+    })
+    @GetMapping("/home")
+    public ResponseEntity<CursorPageDTO<BlogDisplay>> getHomeTimeline(
+            @Parameter(description = "Cursor for pagination (opaque nextCursor token from the previous page)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of blogs to retrieve", required = false)
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "User ID from API Gateway", required = true)
+            @RequestHeader(value = "X-User-Id", required = false) String userId) {
+
+        if (userId == null || userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (size <= 0 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(blogService.getHomeTimeline(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get trending blogs with cursor pagination
+     *
+     * Response Codes:
+     * - 200 OK: Successfully retrieved trending blogs
+     * - 400 BAD REQUEST: Invalid cursor or size parameter
+     */
+    @Operation(
+        summary = "Get trending blogs (cursor pagination)",
+        description = "Retrieves blogs ranked by recent engagement: likes and comments weighted by how recent they are, " +
+                      "so popular posts stay on top while they are active. Pass the 'nextCursor' from the previous " +
+                      "response to load more blogs."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved trending blogs",
+            content = @Content(schema = @Schema(implementation = CursorPageDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or size parameter")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<CursorPageDTO<BlogDisplay>> getTrendingBlogs(
+            @Parameter(description = "Cursor for pagination (opaque nextCursor token from the previous page)", required = false)
             @RequestParam(required = false) String cursor,
             @Parameter(description = "Number of blogs to retrieve", required = false)
             @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(blogService.getNewestBlogsWithCursor(cursor, size));
+        if (size <= 0 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(blogService.getTrendingBlogs(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Stream newest blogs as NDJSON (one BlogDisplay per line), or as Server-Sent Events when the Accept
+     * header asks for text/event-stream; each event id is then the cursor of its blog
+     *
+     * Response Codes:
+     * - 200 OK: Blogs are written as they are read and enriched, in batches
+     * - 400 BAD REQUEST: Invalid cursor
+     */
+    @Operation(
+        summary = "Stream newest blogs (NDJSON or SSE)",
+        description = "Streams up to 'limit' newest blogs after the cursor, one BlogDisplay JSON object per line. " +
+                      "Items are written batch by batch as they are read from the database, so large windows " +
+                      "start arriving immediately. Send 'Accept: text/event-stream' to receive SSE events instead; " +
+                      "each event's id is the cursor of its blog, and on reconnect the Last-Event-ID header " +
+                      "continues after the last event received."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream of newest blogs"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping(value = "/newest/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamNewestBlogs(
+            @Parameter(description = "Cursor to continue after (opaque nextCursor token)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of blogs to stream", required = false)
+            @RequestParam(defaultValue = "1000") int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // One handler for both formats: two mappings differing only in 'produces' are ambiguous for */*
+        boolean events = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+        String from = cursor != null || !events ? cursor : lastEventId;
+        if (!isValidCursor(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(events ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+                .body(out -> blogService.streamNewestBlogs(from, limit, events, out));
+    }
+
+    /**
+     * Subscribe to newly created blogs (Server-Sent Events)
+     *
+     * Response Codes:
+     * - 200 OK: Event stream; each new blog arrives as a 'blog' event whose id is its feed cursor
+     * - 503 SERVICE UNAVAILABLE: Too many live subscribers on this instance
+     */
+    @Operation(
+        summary = "Live new-blog stream (SSE)",
+        description = "Pushes every newly created blog as a 'blog' event in BlogDisplay format, instead of polling " +
+                      "the feed. Clients that fall too far behind are disconnected and should reconnect and load " +
+                      "what they missed from /blogs/newest/cursor."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream of new blogs"),
+        @ApiResponse(responseCode = "503", description = "Subscriber limit reached")
+    })
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> liveBlogs() {
+        SseEmitter emitter = liveBlogBroadcaster.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
     }
 
     /**
@@ -297,8 +504,10 @@ public class BlogController {
             @Parameter(description = "Page number (0-based)", required = false)
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of blogs per page", required = false)
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(blogService.getNewestBlogsWithPagination(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Set to false to skip totalElements/totalPages (returned as -1)", required = false)
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+        return ResponseEntity.ok(blogService.getNewestBlogsWithPagination(page, size, includeTotal));
     }
 
     /**
@@ -306,6 +515,7 @@ public class BlogController {
      *
      * Response Codes:
      * - 200 OK: Blog found with display information
+     * - 304 NOT MODIFIED: Blog unchanged since the ETag sent in If-None-Match
      * - 404 NOT FOUND: Blog with the specified ID does not exist
      */
     @Operation(
@@ -315,15 +525,53 @@ public class BlogController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Blog found",
             content = @Content(schema = @Schema(implementation = BlogDisplay.class))),
+        @ApiResponse(responseCode = "304", description = "Blog not modified"),
         @ApiResponse(responseCode = "404", description = "Blog not found")
     })
     @GetMapping("/{id}/display")
     public ResponseEntity<BlogDisplay> getBlogDisplayById(
             @Parameter(description = "Blog ID", required = true)
-            @PathVariable String id) {
-        return blogService.getBlogDisplayById(id)
-                .map(ResponseEntity::ok)
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Without an ETag (no author snapshot) the author's name and avatar can change at any time and there is
+        // nothing to revalidate against, so caches must not reuse it
+        return blogService.getBlogDisplayById(id, ifNoneMatch)
+                .map(display -> conditionalResponse(display,
+                        display.etag() != null ? httpCachePolicy.blogDisplay() : CacheControl.noCache())
+                        .body(display.body()))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Pre-serialized feed page, written as is; error pages come without ETag and must not be cached
+    private ResponseEntity<byte[]> feedPageResponse(Conditional<byte[]> page) {
+        CacheControl cacheControl = page.etag() != null ? httpCachePolicy.feedPage() : CacheControl.noStore();
+        return conditionalResponse(page, cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(page.body());
+    }
+
+    // 304 (no body) when the client's If-None-Match matched, otherwise 200; ETag and Cache-Control on both
+    private static ResponseEntity.BodyBuilder conditionalResponse(Conditional<?> result, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(result.isNotModified() ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .cacheControl(cacheControl);
+        if (result.etag() != null) {
+            builder.eTag(result.etag());
+        }
+        return builder;
+    }
+
+    // Streams commit the response before reading, so a bad cursor has to be rejected up front
+    private static boolean isValidCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return true;
+        }
+        try {
+            BlogCursor.decode(cursor);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
 }
@@ -0,0 +1,206 @@
+package FCJLaurels.awsrek.controller.blogging;
+
+import FCJLaurels.awsrek.DTO.followDTO.FollowCountsDTO;
+import FCJLaurels.awsrek.DTO.followDTO.FollowDTO;
+import FCJLaurels.awsrek.service.blogging.FollowService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/follows")
+@AllArgsConstructor
+@Tag(name = "Follow Management", description = "APIs for following users")
+public class FollowController {
+
+    private final FollowService followService;
+
+    /**
+     * Follow a user
+     *
+     * Response Codes:
+     * - 201 CREATED: Now following the user, their recent posts are added to the home timeline
+     * - 204 NO CONTENT: Already following the user
+     * - 400 BAD REQUEST: Users cannot follow themselves
+     * - 401 UNAUTHORIZED: Missing or invalid user ID in header
+     */
+    @Operation(summary = "Follow a user", description = "The current user (X-User-Id header) follows the given user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "User followed",
+            content = @Content(schema = @Schema(implementation = FollowDTO.class))),
+        @ApiResponse(responseCode = "204", description = "Already following"),
+        @ApiResponse(responseCode = "400", description = "Cannot follow yourself"),
+        @ApiResponse(responseCode = "401", description = "Missing or invalid user ID")
+    })
+    @PostMapping("/{followeeId}")
+    public ResponseEntity<FollowDTO> follow(
+            @Parameter(description = "User to follow", required = true) @PathVariable String followeeId,
+            @Parameter(description = "User ID from API Gateway", required = true)
+            @RequestHeader(value = "X-User-Id", required = false) String userId) {
+
+        if (userId == null || userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            Optional<FollowDTO> created = followService.follow(userId, followeeId);
+            return created.map(dto -> ResponseEntity.status(HttpStatus.CREATED).body(dto))
+                    .orElse(ResponseEntity.noContent().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Unfollow a user
+     *
+     * Response Codes:
+     * - 204 NO CONTENT: User unfollowed, their posts are removed from the home timeline
+     * - 401 UNAUTHORIZED: Missing or invalid user ID in header
+     * - 404 NOT FOUND: Not following the user
+     */
+    @Operation(summary = "Unfollow a user", description = "The current user (X-User-Id header) stops following the given user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "User unfollowed"),
+        @ApiResponse(responseCode = "401", description = "Missing or invalid user ID"),
+        @ApiResponse(responseCode = "404", description = "Not following")
+    })
+    @DeleteMapping("/{followeeId}")
+    public ResponseEntity<Void> unfollow(
+            @Parameter(description = "User to unfollow", required = true) @PathVariable String followeeId,
+            @Parameter(description = "User ID from API Gateway", required = true)
+            @RequestHeader(value = "X-User-Id", required = false) String userId) {
+
+        if (userId == null || userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        boolean removed = followService.unfollow(userId, followeeId);
+        return removed ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Check if a user follows another
+     *
+     * Response Codes:
+     * - 200 OK: Successfully checked, returns boolean result
+     */
+    @Operation(summary = "Check follow", description = "Checks whether followerId follows followeeId")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully checked follow status")
+    })
+    @GetMapping("/check")
+    public ResponseEntity<Boolean> isFollowing(@Parameter(description = "Follower ID", required = true) @RequestParam String followerId,
+                                               @Parameter(description = "Followee ID", required = true) @RequestParam String followeeId) {
+        return ResponseEntity.ok(followService.isFollowing(followerId, followeeId));
+    }
+
+    /**
+     * Check if two users follow each other (mutual-follow badge)
+     *
+     * Response Codes:
+     * - 200 OK: Successfully checked, returns boolean result
+     */
+    @Operation(summary = "Check mutual follow", description = "Checks whether two users follow each other")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully checked mutual follow status")
+    })
+    @GetMapping("/mutual")
+    public ResponseEntity<Boolean> isMutual(@Parameter(description = "User ID", required = true) @RequestParam String userId,
+                                            @Parameter(description = "Other user ID", required = true) @RequestParam String otherId) {
+        return ResponseEntity.ok(followService.isMutual(userId, otherId));
+    }
+
+    /**
+     * Get the users two users both follow
+     *
+     * Response Codes:
+     * - 200 OK: Successfully retrieved user IDs (empty list if none)
+     * - 400 BAD REQUEST: Invalid limit parameter
+     */
+    @Operation(summary = "Get following in common", description = "Retrieves up to 'limit' IDs of users followed by both users")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved users followed in common"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit parameter")
+    })
+    @GetMapping("/{userId}/common/{otherId}")
+    public ResponseEntity<List<String>> getCommonFollowing(@Parameter(description = "User ID", required = true) @PathVariable String userId,
+                                                           @Parameter(description = "Other user ID", required = true) @PathVariable String otherId,
+                                                           @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0 || limit > 1000) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(followService.getCommonFollowing(userId, otherId, limit));
+    }
+
+    /**
+     * Get the followers of a user, newest first
+     *
+     * Response Codes:
+     * - 200 OK: Successfully retrieved followers (empty list if none)
+     * - 400 BAD REQUEST: Invalid page or size parameter
+     */
+    @Operation(summary = "Get followers", description = "Retrieves a page of the users following a user, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved followers",
+            content = @Content(schema = @Schema(implementation = FollowDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid page or size parameter")
+    })
+    @GetMapping("/{userId}/followers")
+    public ResponseEntity<List<FollowDTO>> getFollowers(@Parameter(description = "User ID", required = true) @PathVariable String userId,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size <= 0 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(followService.getFollowers(userId, page, size));
+    }
+
+    /**
+     * Get the users a user follows, newest first
+     *
+     * Response Codes:
+     * - 200 OK: Successfully retrieved followed users (empty list if none)
+     * - 400 BAD REQUEST: Invalid page or size parameter
+     */
+    @Operation(summary = "Get following", description = "Retrieves a page of the users a user follows, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved followed users",
+            content = @Content(schema = @Schema(implementation = FollowDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid page or size parameter")
+    })
+    @GetMapping("/{userId}/following")
+    public ResponseEntity<List<FollowDTO>> getFollowing(@Parameter(description = "User ID", required = true) @PathVariable String userId,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size <= 0 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(followService.getFollowing(userId, page, size));
+    }
+
+    /**
+     * Get follower and following counts
+     *
+     * Response Codes:
+     * - 200 OK: Successfully retrieved counts (zeros for users without follows)
+     */
+    @Operation(summary = "Get follow counts", description = "Returns how many users follow a user and how many they follow")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved counts",
+            content = @Content(schema = @Schema(implementation = FollowCountsDTO.class)))
+    })
+    @GetMapping("/{userId}/counts")
+    public ResponseEntity<FollowCountsDTO> getCounts(@Parameter(description = "User ID", required = true) @PathVariable String userId) {
+        return ResponseEntity.ok(followService.getCounts(userId));
+    }
+}
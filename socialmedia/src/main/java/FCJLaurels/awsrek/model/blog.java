@@ -19,8 +19,29 @@ public class blog {
     private String id= UUID.randomUUID().toString();
     private String title;
     private String content;
+    // First characters of content, computed on write; feeds read this instead of content
+    private String excerpt;
     private UUID author;
     @Builder.Default
     private LocalDateTime creationDate=LocalDateTime.now();
     private String imageUrl;
+    // Set on every edit (null until the first one) and bumped with it; they make up the blog's ETag
+    private LocalDateTime modifiedDate;
+    private long revision;
+    // Copy of the author's profile taken at write time and refreshed in the background,
+    // so feeds render without calling the user service. Null on blogs written before it existed.
+    private AuthorSnapshot authorSnapshot;
+
+    @Setter
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class AuthorSnapshot {
+        private String name;
+        private String avatar;
+        private LocalDateTime fetchedAt;
+        // Incremented whenever a refresh finds a different name or avatar
+        private long version;
+    }
 }
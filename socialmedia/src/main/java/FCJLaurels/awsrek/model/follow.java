@@ -0,0 +1,28 @@
+package FCJLaurels.awsrek.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(collection = "follow")
+public class follow {
+    // "<followerId>:<followeeId>", so following twice hits the same document
+    @Id
+    private String id;
+
+    private String followerId;    // user who follows
+    private String followeeId;    // user being followed
+    @Builder.Default
+    private LocalDateTime creationDate = LocalDateTime.now();
+
+    public static String idOf(String followerId, String followeeId) {
+        return followerId + ":" + followeeId;
+    }
+}
@@ -0,0 +1,20 @@
+package FCJLaurels.awsrek.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(collection = "followStats")
+public class followStats {
+    @Id
+    private String id;    // user ID
+
+    // Maintained with $inc on follow/unfollow
+    private long followers;
+    private long following;
+}
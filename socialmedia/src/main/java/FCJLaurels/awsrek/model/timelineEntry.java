@@ -0,0 +1,38 @@
+package FCJLaurels.awsrek.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A blog in a user's materialized home timeline, written when the blog's author is followed (fan-out on write).
+ * Carries the feed fields of the blog so a timeline page is read without touching the blog collection.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(collection = "timeline")
+public class timelineEntry {
+    // "<ownerId>:<blogId>", so delivering the same blog twice is harmless
+    @Id
+    private String id;
+
+    private String ownerId;    // user whose timeline this is
+    private String blogId;
+    private UUID author;
+    private LocalDateTime creationDate;    // the blog's, timelines are ordered like the feed
+    private String title;
+    private String excerpt;
+    private String imageUrl;
+    // The blog's author snapshot, refreshed along with it by AuthorSnapshotService
+    private blog.AuthorSnapshot authorSnapshot;
+
+    public static String idOf(String ownerId, String blogId) {
+        return ownerId + ":" + blogId;
+    }
+}
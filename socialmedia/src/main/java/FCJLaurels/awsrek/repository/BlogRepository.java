@@ -13,6 +13,9 @@ import java.util.UUID;
 
 @Repository
 public interface BlogRepository extends MongoRepository<blog, String> {
+    // Fields a feed item needs: everything but the full content (_id is always included)
+    String FEED_FIELDS = "{ 'title': 1, 'author': 1, 'creationDate': 1, 'imageUrl': 1, 'excerpt': 1, 'authorSnapshot': 1 }";
+
     List<blog> findAllByOrderByCreationDateDesc(Pageable pageable);
 
     // Fixed to accept UUID instead of String
@@ -25,12 +28,34 @@ public interface BlogRepository extends MongoRepository<blog, String> {
     List<blog> streamAllBy();
 
     // Cursor-based pagination methods for infinite scrolling
+    @Query(fields = FEED_FIELDS)
     List<blog> findByCreationDateLessThanOrderByCreationDateDesc(LocalDateTime cursor, Pageable pageable);
 
+    // New-since polling (ascending, oldest new blog first) for legacy timestamp-only head cursors
+    @Query(fields = FEED_FIELDS)
     List<blog> findByCreationDateGreaterThanOrderByCreationDateAsc(LocalDateTime cursor, Pageable pageable);
 
-    @Query("{ 'creationDate': { $lt: ?0 }, 'id': { $lt: ?1 } }")
-    List<blog> findByCreationDateAndIdLessThan(LocalDateTime creationDate, String id, Pageable pageable);
+    long countByCreationDateGreaterThan(LocalDateTime cursor);
+
+    // Keyset paging in feed order (creationDate desc, _id desc), served by the creationDate_id_desc index.
+    // Feed pages load FEED_FIELDS only. First page:
+    @Query(fields = FEED_FIELDS)
+    List<blog> findAllByOrderByCreationDateDescIdDesc(Pageable pageable);
+
+    // Pages after (creationDate, id): (creationDate < c) OR (creationDate = c AND _id < i).
+    // The top-level $lte bounds the index scan to [c, min]; the $or only filters the few entries sharing c.
+    @Query(value = "{ 'creationDate': { $lte: ?0 }, $or: [ { 'creationDate': { $lt: ?0 } }, { '_id': { $lt: ?1 } } ] }",
+            sort = "{ 'creationDate': -1, '_id': -1 }", fields = FEED_FIELDS)
+    List<blog> findPageAfter(LocalDateTime creationDate, String id, Pageable pageable);
+
+    // Blogs newer than (creationDate, id), oldest first: the mirror image of findPageAfter, same index
+    @Query(value = "{ 'creationDate': { $gte: ?0 }, $or: [ { 'creationDate': { $gt: ?0 } }, { '_id': { $gt: ?1 } } ] }",
+            sort = "{ 'creationDate': 1, '_id': 1 }", fields = FEED_FIELDS)
+    List<blog> findPageBefore(LocalDateTime creationDate, String id, Pageable pageable);
+
+    @Query(value = "{ 'creationDate': { $gte: ?0 }, $or: [ { 'creationDate': { $gt: ?0 } }, { '_id': { $gt: ?1 } } ] }",
+            count = true)
+    long countNewerThan(LocalDateTime creationDate, String id);
 
     long countByCreationDateLessThan(LocalDateTime cursor);
     // keep count() from MongoRepository for total count if needed
@@ -0,0 +1,15 @@
+package FCJLaurels.awsrek.repository;
+
+import FCJLaurels.awsrek.model.follow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FollowRepository extends MongoRepository<follow, String> {
+    // Newest first; served by the (followerId, creationDate) and (followeeId, creationDate) indexes
+    List<follow> findByFollowerIdOrderByCreationDateDesc(String followerId, Pageable pageable);
+    List<follow> findByFolloweeIdOrderByCreationDateDesc(String followeeId, Pageable pageable);
+}
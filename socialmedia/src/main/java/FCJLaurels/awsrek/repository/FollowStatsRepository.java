@@ -0,0 +1,13 @@
+package FCJLaurels.awsrek.repository;
+
+import FCJLaurels.awsrek.model.followStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FollowStatsRepository extends MongoRepository<followStats, String> {
+    // Authors too popular for fan-out on write
+    List<followStats> findByFollowersGreaterThanEqual(long followers);
+}
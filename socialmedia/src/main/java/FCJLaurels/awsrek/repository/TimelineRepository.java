@@ -0,0 +1,13 @@
+package FCJLaurels.awsrek.repository;
+
+import FCJLaurels.awsrek.model.timelineEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TimelineRepository extends MongoRepository<timelineEntry, String> {
+    long deleteByBlogId(String blogId);
+    long deleteByOwnerIdAndAuthor(String ownerId, UUID author);
+}
@@ -0,0 +1,73 @@
+package FCJLaurels.awsrek.service;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Counts finished calls per backend (the subchannel's remote address), so it is visible whether the
+ * load balancer spreads traffic evenly across replicas.
+ *
+ * Metrics: {@code grpc.client.backend.calls{client, backend}} - calls that never reached a transport
+ * are tagged {@code backend=none}.
+ */
+public class BackendCallMetricsInterceptor implements ClientInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String clientName;
+
+    public BackendCallMetricsInterceptor(MeterRegistry meterRegistry, String clientName) {
+        this.meterRegistry = meterRegistry;
+        this.clientName = clientName;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                ClientCall<ReqT, RespT> call = delegate();
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        record(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+
+    private void record(SocketAddress remoteAddress) {
+        Counter.builder("grpc.client.backend.calls")
+                .description("gRPC calls completed per backend address")
+                .tag("client", clientName)
+                .tag("backend", backendTag(remoteAddress))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String backendTag(SocketAddress remoteAddress) {
+        if (remoteAddress == null) {
+            return "none";
+        }
+        if (remoteAddress instanceof InetSocketAddress inet) {
+            String host = inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+            return host + ":" + inet.getPort();
+        }
+        return remoteAddress.toString();
+    }
+}
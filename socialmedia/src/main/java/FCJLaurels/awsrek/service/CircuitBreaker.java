@@ -0,0 +1,153 @@
+package FCJLaurels.awsrek.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Count-based circuit breaker for a remote dependency.
+ * CLOSED: calls pass, the outcome of the last {@code windowSize} calls is tracked; once at least
+ * {@code minimumCalls} were seen and the failure rate reaches {@code failureRateThreshold}% it OPENs.
+ * OPEN: calls are rejected immediately for {@code openDurationMillis}, then it moves to HALF_OPEN.
+ * HALF_OPEN: up to {@code halfOpenCalls} trial calls pass; if all succeed it CLOSEs, any failure re-OPENs.
+ *
+ * Metrics: {@code circuit.breaker.state{name}} (0 = closed, 1 = half-open, 2 = open) and
+ * {@code circuit.breaker.rejected{name}}.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final Counter rejectedCounter;
+
+    // Ring buffer of recent outcomes while CLOSED (true = failure)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(MeterRegistry meterRegistry, String name, int failureRateThreshold, int windowSize,
+                          int minimumCalls, long openDurationMillis, int halfOpenCalls) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+
+        Gauge.builder("circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state: 0 = closed, 1 = half-open, 2 = open")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("circuit.breaker.rejected")
+                .description("Calls rejected without reaching the dependency because the breaker was open")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true if the call may proceed; the caller must then report {@link #onSuccess()}, {@link #onFailure()}
+     * or {@link #onIgnored()}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermitted < halfOpenCalls) {
+                    halfOpenPermitted++;
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSucceeded++;
+            if (halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                log.warn("🔴 Circuit breaker '{}' OPEN - {}/{} recent calls failed", name, windowFailures, windowCount);
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * The permitted call ended without telling us anything about the dependency (e.g. it was cancelled).
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        if (next == state) {
+            return;
+        }
+        log.info("🔁 Circuit breaker '{}' {} -> {}", name, state, next);
+        state = next;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package FCJLaurels.awsrek.service;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client-side RPC metrics, per method:
+ * {@code grpc.client.call.duration{client, service, method}} - latency of unary calls, with percentile histogram,
+ * {@code grpc.client.call.status{client, service, method, code}} - finished calls by status code,
+ * {@code grpc.client.call.in.flight{client, service, method}} - calls (including open streams) not yet finished.
+ * Meters are created on first use; {@link #registerService} creates them up front for every method of a service.
+ */
+public class GrpcClientMetricsInterceptor implements ClientInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String clientName;
+    private final Map<String, MethodMeters> metersByMethod = new ConcurrentHashMap<>();
+
+    public GrpcClientMetricsInterceptor(MeterRegistry meterRegistry, String clientName) {
+        this.meterRegistry = meterRegistry;
+        this.clientName = clientName;
+    }
+
+    /**
+     * Registers the meters of every method in the service so dashboards show them before the first call.
+     */
+    public GrpcClientMetricsInterceptor registerService(ServiceDescriptor service) {
+        service.getMethods().forEach(this::meters);
+        return this;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        MethodMeters meters = meters(method);
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                long startNanos = System.nanoTime();
+                AtomicBoolean closed = new AtomicBoolean();
+                meters.inFlight.incrementAndGet();
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            if (closed.compareAndSet(false, true)) {
+                                meters.record(status.getCode(), System.nanoTime() - startNanos);
+                            }
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    if (closed.compareAndSet(false, true)) {
+                        meters.record(Status.fromThrowable(e).getCode(), System.nanoTime() - startNanos);
+                    }
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private MethodMeters meters(MethodDescriptor<?, ?> method) {
+        return metersByMethod.computeIfAbsent(method.getFullMethodName(), name -> new MethodMeters(method));
+    }
+
+    private class MethodMeters {
+        private final String service;
+        private final String method;
+        // Streams stay open for minutes, their lifetime is not a latency
+        private final Timer duration;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<Status.Code, Counter> statusCounters = new EnumMap<>(Status.Code.class);
+
+        MethodMeters(MethodDescriptor<?, ?> descriptor) {
+            this.service = descriptor.getServiceName();
+            this.method = descriptor.getBareMethodName();
+            this.duration = descriptor.getType() == MethodDescriptor.MethodType.UNARY
+                    ? Timer.builder("grpc.client.call.duration")
+                            .description("Latency of unary gRPC client calls")
+                            .tag("client", clientName)
+                            .tag("service", service)
+                            .tag("method", method)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)
+                    : null;
+            Gauge.builder("grpc.client.call.in.flight", inFlight, AtomicInteger::get)
+                    .description("gRPC client calls started but not finished")
+                    .tag("client", clientName)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        void record(Status.Code code, long elapsedNanos) {
+            inFlight.decrementAndGet();
+            if (duration != null) {
+                duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+            Counter counter;
+            synchronized (statusCounters) {
+                counter = statusCounters.computeIfAbsent(code, this::statusCounter);
+            }
+            counter.increment();
+        }
+
+        private Counter statusCounter(Status.Code code) {
+            return Counter.builder("grpc.client.call.status")
+                    .description("Finished gRPC client calls by status code")
+                    .tag("client", clientName)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("code", code.name())
+                    .register(meterRegistry);
+        }
+    }
+}
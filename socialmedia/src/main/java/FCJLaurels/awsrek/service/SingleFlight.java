@@ -0,0 +1,189 @@
+package FCJLaurels.awsrek.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing: concurrent loads of the same key share one in-flight call.
+ * The first caller for a key (the leader) runs the loader, every caller that arrives while it is
+ * still running waits for and receives the leader's result. Null results are passed through as-is.
+ *
+ * Metrics: {@code singleflight.calls{name, role=leader|collapsed}}
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter collapsedCounter;
+
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        this.leaderCounter = Counter.builder("singleflight.calls")
+                .description("Loads executed by the caller that started the flight")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.collapsedCounter = Counter.builder("singleflight.calls")
+                .description("Loads that joined an identical in-flight call instead of issuing their own")
+                .tag("name", name)
+                .tag("role", "collapsed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load a single key, joining an in-flight load for the same key if there is one.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            collapsedCounter.increment();
+            return await(existing);
+        }
+
+        leaderCounter.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Load many keys at once. Keys already being loaded by another caller (single or batch) are joined;
+     * the remaining keys are handed to {@code batchLoader} in one call. Keys the loader leaves out of its
+     * result map resolve to null, and are also absent from the returned map.
+     */
+    public Map<K, V> executeAll(Collection<K> keys, Function<Set<K>, Map<K, V>> batchLoader) {
+        Map<K, CompletableFuture<V>> led = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> joined = new HashMap<>();
+
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                joined.put(key, existing);
+            } else {
+                led.put(key, mine);
+            }
+        }
+
+        Map<K, V> results = new HashMap<>();
+
+        if (!led.isEmpty()) {
+            leaderCounter.increment(led.size());
+            try {
+                Map<K, V> loaded = batchLoader.apply(led.keySet());
+                led.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    future.complete(value);
+                    if (value != null) {
+                        results.put(key, value);
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                led.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                led.forEach(inFlight::remove);
+            }
+        }
+
+        if (!joined.isEmpty()) {
+            collapsedCounter.increment(joined.size());
+            joined.forEach((key, future) -> {
+                V value = await(future);
+                if (value != null) {
+                    results.put(key, value);
+                }
+            });
+        }
+
+        return results;
+    }
+
+    /**
+     * Non-blocking variant of {@link #executeAll}: returns one future per requested key. Keys already in
+     * flight get the existing future; the rest are handed to {@code batchLoader}, which returns a future
+     * for each key it was given (a missing future resolves to null).
+     */
+    public Map<K, CompletableFuture<V>> executeAllAsync(Collection<K> keys,
+                                                        Function<Set<K>, Map<K, CompletableFuture<V>>> batchLoader) {
+        Map<K, CompletableFuture<V>> led = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> results = new LinkedHashMap<>();
+
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                collapsedCounter.increment();
+                results.put(key, existing);
+            } else {
+                led.put(key, mine);
+                results.put(key, mine);
+            }
+        }
+
+        if (!led.isEmpty()) {
+            leaderCounter.increment(led.size());
+            try {
+                Map<K, CompletableFuture<V>> loaded = batchLoader.apply(led.keySet());
+                led.forEach((key, mine) -> {
+                    CompletableFuture<V> source = loaded.get(key);
+                    if (source == null) {
+                        inFlight.remove(key, mine);
+                        mine.complete(null);
+                        return;
+                    }
+                    source.whenComplete((value, error) -> {
+                        inFlight.remove(key, mine);
+                        if (error != null) {
+                            mine.completeExceptionally(error);
+                        } else {
+                            mine.complete(value);
+                        }
+                    });
+                });
+            } catch (RuntimeException | Error e) {
+                led.forEach((key, mine) -> {
+                    inFlight.remove(key, mine);
+                    mine.completeExceptionally(e);
+                });
+                throw e;
+            }
+        }
+
+        return results;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package FCJLaurels.awsrek.service;
+
+import com.google.common.net.HostAndPort;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.NameResolverRegistry;
+import io.grpc.Status;
+import io.grpc.StatusOr;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Resolves a fixed list of backends encoded in the target, e.g. {@code static-list:///user-a:9090,user-b:9090},
+ * so a channel can spread calls over several replicas with a load balancing policy such as {@code round_robin}.
+ * Host names are resolved when the channel starts and on every refresh (e.g. after a connection drops);
+ * each resolved address becomes its own subchannel. Missing ports default to 9090.
+ */
+public class StaticAddressNameResolverProvider extends NameResolverProvider {
+
+    public static final String SCHEME = "static-list";
+
+    private static final int DEFAULT_PORT = 9090;
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    /**
+     * Adds the provider to the default registry once; safe to call repeatedly.
+     */
+    public static void registerDefault() {
+        if (registered.compareAndSet(false, true)) {
+            NameResolverRegistry.getDefaultRegistry().register(new StaticAddressNameResolverProvider());
+        }
+    }
+
+    /**
+     * @param hostPorts comma separated {@code host[:port]} entries, IPv6 literals in brackets ({@code [::1]:9090})
+     * @return a channel target handled by this provider
+     */
+    public static String target(String hostPorts) {
+        // Brackets are not allowed in a URI path; the resolver sees them decoded again
+        return SCHEME + ":///" + hostPorts.replace(" ", "").replace("[", "%5B").replace("]", "%5D");
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String hostPorts = targetUri.getPath().startsWith("/") ? targetUri.getPath().substring(1) : targetUri.getPath();
+        return new StaticNameResolver(hostPorts, args.getOffloadExecutor());
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    // Below the built-in DNS provider (5): a distinct priority keeps provider selection independent of load
+    // order, and staying below DNS means this provider never becomes the default scheme for scheme-less targets
+    @Override
+    protected int priority() {
+        return 4;
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    public Collection<Class<? extends SocketAddress>> getProducedSocketAddressTypes() {
+        return List.of(InetSocketAddress.class);
+    }
+
+    private static class StaticNameResolver extends NameResolver {
+
+        private final String hostPorts;
+        private final Executor resolveExecutor;
+        private Listener2 listener;
+
+        StaticNameResolver(String hostPorts, Executor offloadExecutor) {
+            this.hostPorts = hostPorts;
+            // DNS lookups block, keep them off the channel's synchronization context when possible
+            this.resolveExecutor = offloadExecutor != null ? offloadExecutor : Runnable::run;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            // Authority is only used for the :authority header, the first backend is as good as any
+            String first = hostPorts.split(",")[0];
+            return first.isBlank() ? "localhost" : first;
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            this.listener = listener;
+            resolveExecutor.execute(this::resolve);
+        }
+
+        @Override
+        public void refresh() {
+            if (listener != null) {
+                resolveExecutor.execute(this::resolve);
+            }
+        }
+
+        private void resolve() {
+            List<EquivalentAddressGroup> groups = new ArrayList<>();
+            try {
+                for (String entry : hostPorts.split(",")) {
+                    if (entry.isBlank()) {
+                        continue;
+                    }
+                    HostAndPort hostAndPort = HostAndPort.fromString(entry.trim()).withDefaultPort(DEFAULT_PORT);
+                    for (InetAddress address : InetAddress.getAllByName(hostAndPort.getHost())) {
+                        groups.add(new EquivalentAddressGroup(new InetSocketAddress(address, hostAndPort.getPort())));
+                    }
+                }
+            } catch (UnknownHostException | IllegalArgumentException e) {
+                listener.onError(Status.UNAVAILABLE.withDescription("Cannot resolve '" + hostPorts + "'").withCause(e));
+                return;
+            }
+            if (groups.isEmpty()) {
+                listener.onError(Status.UNAVAILABLE.withDescription("No backend addresses in '" + hostPorts + "'"));
+                return;
+            }
+            listener.onResult(ResolutionResult.newBuilder().setAddressesOrError(StatusOr.fromValue(groups)).build());
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -1,96 +1,295 @@
 package FCJLaurels.awsrek.service;
 
+import FCJ.user.grpc.BatchBlogUserInfoRequest;
+import FCJ.user.grpc.BatchBlogUserInfoResponse;
 import FCJ.user.grpc.BlogUserInfoRequest;
 import FCJ.user.grpc.BlogUserInfoResponse;
+import FCJ.user.grpc.UserInfoChangeEvent;
 import FCJ.user.grpc.UserInfoServiceGrpc;
+import FCJ.user.grpc.WatchUserInfoChangesRequest;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.Deadline;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class UserGrpcClientService {
 
+    private final UserInfoCache userInfoCache;
+    private final MeterRegistry meterRegistry;
+
+    // One "host:port", a comma separated list of replicas ("static://a:9090,b:9090") or a DNS target ("dns:///users:9090")
     @Value("${grpc.client.user-service.address:localhost:9090}")
     private String grpcServerAddress;
 
+    @Value("${grpc.client.user-service.load-balancing-policy:round_robin}")
+    private String loadBalancingPolicy;
+
+    // Number of independent channels (and so HTTP/2 connections per replica) calls are spread over
+    @Value("${grpc.client.user-service.channel-pool-size:1}")
+    private int channelPoolSize;
+
     @Value("${grpc.client.user-service.timeout:5}")
     private int grpcTimeoutSeconds;
 
-    private ManagedChannel channel;
+    // Upper bound on outstanding async RPCs for the whole client (bulkhead for the user service)
+    @Value("${grpc.client.user-service.max-concurrent-calls:32}")
+    private int maxConcurrentCalls;
+
+    // Max ids per BatchBlogUserInfo request; larger lookups are split and the chunks sent concurrently
+    @Value("${grpc.client.user-service.batch-size:100}")
+    private int batchSize;
+
+    private UserServiceChannelPool channelPool;
+    private Channel channel;
     private UserInfoServiceGrpc.UserInfoServiceBlockingStub blockingStub;
+    private UserInfoServiceGrpc.UserInfoServiceFutureStub futureStub;
+    private UserInfoServiceGrpc.UserInfoServiceStub asyncStub;
+    private Semaphore callPermits;
+    // Async calls waiting for a permit, sent as soon as one is released
+    private final Queue<PendingCall> waitingCalls = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // Set once the user service answers UNIMPLEMENTED for the batch RPC, async lookups then fan out per user
+    private volatile boolean batchRpcUnimplemented = false;
+
+    // Circuit breaker around every user-info RPC: fail fast (and serve stale profiles) while the service is down
+    @Value("${grpc.client.user-service.circuit-breaker.failure-rate-threshold:50}")
+    private int breakerFailureRateThreshold;
+
+    @Value("${grpc.client.user-service.circuit-breaker.sliding-window-size:20}")
+    private int breakerWindowSize;
+
+    @Value("${grpc.client.user-service.circuit-breaker.minimum-calls:10}")
+    private int breakerMinimumCalls;
+
+    @Value("${grpc.client.user-service.circuit-breaker.open-duration-ms:10000}")
+    private long breakerOpenDurationMs;
+
+    @Value("${grpc.client.user-service.circuit-breaker.half-open-calls:3}")
+    private int breakerHalfOpenCalls;
+
+    // Calls given less time than this are not breaker failures when they hit their deadline
+    @Value("${grpc.client.user-service.circuit-breaker.min-deadline-ms:1000}")
+    private long breakerMinDeadlineMs;
+
+    private static final String CIRCUIT_OPEN_DESCRIPTION = "user-info circuit breaker is open";
+
+    private CircuitBreaker circuitBreaker;
+
+    // Hedging: if an async lookup has not answered after the hedge delay, send a second attempt and take
+    // whichever answers first. delay-ms=0 means "use the observed p95 latency" (never below min-delay-ms).
+    @Value("${grpc.client.user-service.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    @Value("${grpc.client.user-service.hedging.delay-ms:0}")
+    private long hedgeDelayMs;
+
+    @Value("${grpc.client.user-service.hedging.min-delay-ms:10}")
+    private long hedgeMinDelayMs;
+
+    // Runs hedge timers and the health probe
+    private ScheduledExecutorService scheduler;
+    private Timer rpcLatencyTimer;
+    private Counter hedgesFiredCounter;
+    private Counter hedgesWonCounter;
+
+    // Background grpc.health.v1 probe; isServerHealthy() only reads its last result
+    @Value("${grpc.client.user-service.health.interval-ms:10000}")
+    private long healthIntervalMs;
+
+    @Value("${grpc.client.user-service.health.timeout-ms:2000}")
+    private long healthTimeoutMs;
+
+    // Service name asked for in HealthCheckRequest; empty checks the server as a whole
+    @Value("${grpc.client.user-service.health.service-name:}")
+    private String healthServiceName;
+
+    /**
+     * Last health probe result. {@code status} is the grpc.health.v1 serving status, or the gRPC status code
+     * when the probe itself failed. {@code checkedAt} is null until the first probe has finished.
+     */
+    public record HealthState(boolean healthy, String status, LocalDateTime checkedAt) {
+    }
+
+    private volatile HealthState healthState = new HealthState(false, "UNKNOWN", null);
+    private HealthGrpc.HealthFutureStub healthStub;
+
+    /**
+     * Result of a budgeted lookup. {@code partial} is true when at least one existing user could not be
+     * resolved in time (timed out, still pending, or failed) - NOT_FOUND users do not make a lookup partial.
+     */
+    public record UserInfoLookup(Map<String, BlogUserInfoResponse> users, boolean partial) {
+    }
+
+    // Concurrent lookups of the same user (single or batch) share one in-flight RPC
+    private SingleFlight<String, BlogUserInfoResponse> userInfoFlights;
+    private Counter partialLookupCounter;
 
     @PostConstruct
     public void init() {
-        // Extract host and port from address
-        String cleanAddress = grpcServerAddress.replace("static://", "").trim();
-        String[] parts = cleanAddress.split(":");
-        String host = parts[0].trim();
-        int port = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 9090;
+        String target = channelTarget(grpcServerAddress);
+        int poolSize = Math.max(1, channelPoolSize);
 
         log.info("=================================================================");
-        log.info("🚀 Initializing gRPC channel to {}:{} with timeout {}s", host, port, grpcTimeoutSeconds);
+        log.info("🚀 Initializing gRPC channel to {} with timeout {}s", target, grpcTimeoutSeconds);
         log.info("=================================================================");
 
         try {
-            channel = ManagedChannelBuilder.forAddress(host, port)
-                    .usePlaintext()
-                    .maxRetryAttempts(3)
-                    .retryBufferSize(16 * 1024 * 1024) // 16MB
-                    .perRpcBufferLimit(1024 * 1024) // 1MB
-                    .keepAliveTime(30, TimeUnit.SECONDS)
-                    .keepAliveTimeout(5, TimeUnit.SECONDS)
-                    .keepAliveWithoutCalls(true)
-                    .build();
+            List<ManagedChannel> channels = new ArrayList<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                channels.add(ManagedChannelBuilder.forTarget(target)
+                        .defaultLoadBalancingPolicy(loadBalancingPolicy)
+                        .usePlaintext()
+                        .maxRetryAttempts(3)
+                        .retryBufferSize(16 * 1024 * 1024) // 16MB
+                        .perRpcBufferLimit(1024 * 1024) // 1MB
+                        .keepAliveTime(30, TimeUnit.SECONDS)
+                        .keepAliveTimeout(5, TimeUnit.SECONDS)
+                        .keepAliveWithoutCalls(true)
+                        .build());
+            }
 
-            blockingStub = UserInfoServiceGrpc.newBlockingStub(channel);
+            initStubs(channels);
 
             log.info("✅ gRPC channel initialized successfully");
-            log.info("📡 Target: {}:{}", host, port);
+            log.info("📡 Target: {} (lb: {}, channels: {})", target, loadBalancingPolicy, poolSize);
             log.info("⏱️  Timeout: {}s", grpcTimeoutSeconds);
 
-            // Perform initial health check
-            try {
-                boolean healthy = isServerHealthy();
-                if (healthy) {
-                    log.info("✅ gRPC server is REACHABLE and HEALTHY");
-                } else {
-                    log.warn("⚠️  gRPC server is NOT REACHABLE - Please check if user-info service is running on {}:{}", host, port);
-                }
-            } catch (Exception healthEx) {
-                log.warn("⚠️  Could not perform initial health check: {}", healthEx.getMessage());
-            }
+            // Health is probed in the background, the first result is logged when it arrives
+            scheduler.scheduleWithFixedDelay(this::probeHealth, 0, Math.max(100, healthIntervalMs), TimeUnit.MILLISECONDS);
+            log.info("🏥 Health probe: every {}ms (grpc.health.v1, service '{}')", healthIntervalMs, healthServiceName);
 
             log.info("=================================================================");
         } catch (Exception e) {
-            log.error("❌ Failed to initialize gRPC channel to {}:{}", host, port, e);
+            log.error("❌ Failed to initialize gRPC channel to {}", target, e);
             log.error("=================================================================");
             throw new RuntimeException("Failed to initialize gRPC channel", e);
         }
     }
 
+    // Turns the configured address into a channel target: "dns:///..." (or any other scheme) is used as-is,
+    // plain "host:port" lists go through the static-list resolver so round_robin sees every replica
+    static String channelTarget(String address) {
+        String trimmed = address.trim();
+        if (trimmed.contains(":///")) {
+            return trimmed;
+        }
+        StaticAddressNameResolverProvider.registerDefault();
+        return StaticAddressNameResolverProvider.target(trimmed.replace("static://", ""));
+    }
+
+    // Wires stubs and helpers onto an already-built channel (package-private so tests can use an in-process channel)
+    void initStubs(ManagedChannel channel) {
+        initStubs(List.of(channel));
+    }
+
+    private void initStubs(List<ManagedChannel> channels) {
+        channelPool = new UserServiceChannelPool(channels);
+        // Interceptors run last-to-first: per-method metrics see the whole call, backend counts see the chosen subchannel
+        channel = ClientInterceptors.intercept(channelPool,
+                new BackendCallMetricsInterceptor(meterRegistry, "user-info"),
+                new GrpcClientMetricsInterceptor(meterRegistry, "user-info")
+                        .registerService(UserInfoServiceGrpc.getServiceDescriptor()));
+        blockingStub = UserInfoServiceGrpc.newBlockingStub(channel);
+        futureStub = UserInfoServiceGrpc.newFutureStub(channel);
+        asyncStub = UserInfoServiceGrpc.newStub(channel);
+        healthStub = HealthGrpc.newFutureStub(channel);
+        callPermits = new Semaphore(Math.max(1, maxConcurrentCalls));
+        userInfoFlights = new SingleFlight<>(meterRegistry, "user-info");
+        circuitBreaker = new CircuitBreaker(meterRegistry, "user-info", breakerFailureRateThreshold, breakerWindowSize,
+                breakerMinimumCalls, breakerOpenDurationMs, breakerHalfOpenCalls);
+        partialLookupCounter = Counter.builder("user.info.lookup.partial")
+                .description("Budgeted user info lookups that returned before every user was resolved")
+                .register(meterRegistry);
+        rpcLatencyTimer = Timer.builder("user.info.rpc.latency")
+                .description("Latency of successful async user info RPCs (drives the adaptive hedge delay)")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        hedgesFiredCounter = Counter.builder("user.info.hedge")
+                .description("Hedged user info requests")
+                .tag("outcome", "fired")
+                .register(meterRegistry);
+        hedgesWonCounter = Counter.builder("user.info.hedge")
+                .description("Hedged user info requests")
+                .tag("outcome", "won")
+                .register(meterRegistry);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-info-grpc");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @PreDestroy
     public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
         try {
-            if (channel != null && !channel.isShutdown()) {
+            if (channelPool != null && !channelPool.isShutdown()) {
                 log.info("Shutting down gRPC channel");
-                if (!channel.shutdown().awaitTermination(5, TimeUnit.SECONDS)) {
+                channelPool.shutdown();
+                if (!channelPool.awaitTermination(5, TimeUnit.SECONDS)) {
                     log.warn("gRPC channel did not terminate gracefully");
-                    channel.shutdownNow();
+                    channelPool.shutdownNow();
                 }
             }
         } catch (InterruptedException e) {
             log.error("Error shutting down gRPC channel", e);
-            if (channel != null) {
-                channel.shutdownNow();
+            if (channelPool != null) {
+                channelPool.shutdownNow();
             }
             Thread.currentThread().interrupt();
         }
@@ -99,6 +298,7 @@ public class UserGrpcClientService {
     /**
      * Fetch user information (name and avatar) by user ID using gRPC (BLOCKING)
      * Accepts UUID as string (e.g., "550e8400-e29b-41d4-a716-446655440000")
+     * Results (including NOT_FOUND) are served from {@link UserInfoCache} when present.
      *
      * @param userId The user ID to fetch information for (UUID as string)
      * @return BlogUserInfoResponse containing name and avatar URL, or null if failed
@@ -111,6 +311,22 @@ public class UserGrpcClientService {
 
         String trimmedUserId = userId.trim();
 
+        UserInfoCache.CachedUserInfo cached = userInfoCache.get(trimmedUserId);
+        if (cached != null) {
+            log.debug("🗄️  User info cache HIT for userId: {} (notFound: {})", trimmedUserId, cached.isNotFound());
+            return cached.info();
+        }
+
+        return userInfoFlights.execute(trimmedUserId, () -> {
+            // Another flight may have filled the cache between our miss and taking the lead
+            UserInfoCache.CachedUserInfo latest = userInfoCache.peek(trimmedUserId);
+            return latest != null ? latest.info() : fetchUserInfo(trimmedUserId);
+        });
+    }
+
+    // Cache miss path: one blogUserInfo() RPC, result written back to the cache
+    private BlogUserInfoResponse fetchUserInfo(String trimmedUserId) {
+        long fetchStarted = System.nanoTime();
         try {
             log.info("🔍 Fetching user info via gRPC for userId: {} (UUID format)", trimmedUserId);
 
@@ -128,10 +344,10 @@ public class UserGrpcClientService {
                     .build();
 
             log.debug("📤 Sending gRPC request with UUID: {}", trimmedUserId);
-            BlogUserInfoResponse response = blockingStub
-                    .withDeadlineAfter(grpcTimeoutSeconds, TimeUnit.SECONDS) // <--- MOVE IT HERE
-                    .blogUserInfo(request);
-            log.info("🔍 RAW PROTO RESPONSE: {}", response.toString());
+            BlogUserInfoResponse response = callBlocking(() -> blockingStub
+                    .withDeadlineAfter(grpcTimeoutSeconds, TimeUnit.SECONDS)
+                    .blogUserInfo(request));
+            log.debug("🔍 RAW PROTO RESPONSE: {}", response);
 
             if (response != null) {
                 log.debug("✅ Successfully fetched user info - name: '{}', avatar: '{}'",
@@ -139,13 +355,14 @@ public class UserGrpcClientService {
 
                 // Additional validation
                 if (response.getName() == null || response.getName().isEmpty()) {
-                    log.warn("⚠️  User info fetched but name is empty for userId: {}", userId);
+                    log.warn("⚠️  User info fetched but name is empty for userId: {}", trimmedUserId);
                 }
                 if (response.getAvatar() == null || response.getAvatar().isEmpty()) {
-                    log.debug("ℹ️  User info fetched but avatar is empty for userId: {}", userId);
+                    log.debug("ℹ️  User info fetched but avatar is empty for userId: {}", trimmedUserId);
                 }
+                userInfoCache.put(trimmedUserId, response, fetchStarted);
             } else {
-                log.warn("⚠️  gRPC returned null response for userId: {}", userId);
+                log.warn("⚠️  gRPC returned null response for userId: {}", trimmedUserId);
             }
 
             return response;
@@ -153,25 +370,616 @@ public class UserGrpcClientService {
         } catch (StatusRuntimeException e) {
             Status.Code code = e.getStatus().getCode();
 
-            if (code == Status.DEADLINE_EXCEEDED.getCode()) {
-                log.error("⏱️  gRPC call TIMEOUT ({}s exceeded) for userId: {}", grpcTimeoutSeconds, userId);
+            if (isCircuitOpen(e)) {
+                log.debug("🔴 Circuit open, skipping gRPC call for userId: {}", trimmedUserId);
+            } else if (code == Status.DEADLINE_EXCEEDED.getCode()) {
+                log.error("⏱️  gRPC call TIMEOUT ({}s exceeded) for userId: {}", grpcTimeoutSeconds, trimmedUserId);
                 log.error("💡 TIP: Check if user-info service is slow or check network latency");
             } else if (code == Status.UNAVAILABLE.getCode()) {
                 log.error("🔌 gRPC server UNAVAILABLE for userId: {} - Is the service running on {}?",
-                        userId, grpcServerAddress);
+                        trimmedUserId, grpcServerAddress);
                 log.error("💡 TIP: Verify user-info service is running with: netstat -ano | findstr :9090");
             } else if (code == Status.NOT_FOUND.getCode()) {
-                log.warn("🔍 User NOT FOUND for userId: {} - User may not exist in database", userId);
+                log.warn("🔍 User NOT FOUND for userId: {} - User may not exist in database", trimmedUserId);
+                userInfoCache.putNotFound(trimmedUserId, fetchStarted);
+                return null;
             } else {
                 log.error("❌ gRPC call failed for userId: {} - Status: {} - Message: {}",
-                        userId, e.getStatus().getCode(), e.getStatus().getDescription());
+                        trimmedUserId, e.getStatus().getCode(), e.getStatus().getDescription());
             }
 
-            return null;
+            // Stale-while-error: last known profile is better than "Unknown User"
+            return userInfoCache.getStale(trimmedUserId);
         } catch (Exception e) {
-            log.error("❌ Unexpected error fetching user info for userId: {}", userId, e);
+            log.error("❌ Unexpected error fetching user info for userId: {}", trimmedUserId, e);
             log.error("💡 TIP: Check application logs and gRPC server logs");
-            return null;
+            return userInfoCache.getStale(trimmedUserId);
+        }
+    }
+
+    /**
+     * Fetch user information for many users in ONE gRPC round trip (BLOCKING)
+     * Null/blank IDs are dropped and duplicates are collapsed before the request is sent,
+     * so callers can pass the raw author list of a feed page. Cached users are not sent at all,
+     * and users already being fetched by a concurrent request are joined rather than re-fetched.
+     *
+     * @param userIds The user IDs to fetch information for (UUIDs as strings)
+     * @return Map of userId to BlogUserInfoResponse; users that could not be resolved are absent
+     */
+    public Map<String, BlogUserInfoResponse> getUserInfos(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (distinctIds.isEmpty()) {
+            log.warn("❌ No valid user IDs supplied for batch lookup, returning empty map");
+            return Map.of();
+        }
+
+        Map<String, BlogUserInfoResponse> users = new HashMap<>();
+        userInfoCache.getAll(distinctIds).forEach((id, cached) -> {
+            if (!cached.isNotFound()) {
+                users.put(id, cached.info());
+            }
+            distinctIds.remove(id);
+        });
+
+        if (distinctIds.isEmpty()) {
+            log.debug("🗄️  All {} users of batch served from cache", users.size());
+            return users;
+        }
+
+        users.putAll(userInfoFlights.executeAll(distinctIds, this::fetchUserInfos));
+        return users;
+    }
+
+    // Cache miss path for batches: one batchBlogUserInfo() RPC for every id not in the cache
+    private Map<String, BlogUserInfoResponse> fetchUserInfos(Set<String> distinctIds) {
+        long fetchStarted = System.nanoTime();
+        try {
+            log.info("🔍 Fetching user info via gRPC batch for {} distinct userIds", distinctIds.size());
+
+            BatchBlogUserInfoRequest request = BatchBlogUserInfoRequest.newBuilder()
+                    .addAllIds(distinctIds)
+                    .build();
+
+            BatchBlogUserInfoResponse response = callBlocking(() -> blockingStub
+                    .withDeadlineAfter(grpcTimeoutSeconds, TimeUnit.SECONDS)
+                    .batchBlogUserInfo(request));
+
+            Map<String, BlogUserInfoResponse> users = response.getUsersMap();
+            for (String id : distinctIds) {
+                BlogUserInfoResponse info = users.get(id);
+                if (info != null) {
+                    userInfoCache.put(id, info, fetchStarted);
+                } else {
+                    // Omitted from the batch response means the user does not exist
+                    userInfoCache.putNotFound(id, fetchStarted);
+                }
+            }
+            if (users.size() < distinctIds.size()) {
+                log.debug("ℹ️  Batch lookup resolved {}/{} users", users.size(), distinctIds.size());
+            }
+            return users;
+
+        } catch (StatusRuntimeException e) {
+            Status.Code code = e.getStatus().getCode();
+
+            if (isCircuitOpen(e)) {
+                log.debug("🔴 Circuit open, skipping gRPC batch call for {} userIds", distinctIds.size());
+            } else if (code == Status.UNIMPLEMENTED.getCode()) {
+                // Older user-info deployments only expose BlogUserInfo - degrade to one call per user
+                log.warn("⚠️  BatchBlogUserInfo not implemented by user service at {}, falling back to per-user calls",
+                        grpcServerAddress);
+                Map<String, BlogUserInfoResponse> users = new HashMap<>();
+                for (String id : distinctIds) {
+                    BlogUserInfoResponse info = fetchUserInfo(id);
+                    if (info != null) {
+                        users.put(id, info);
+                    }
+                }
+                return users;
+            } else if (code == Status.DEADLINE_EXCEEDED.getCode()) {
+                log.error("⏱️  gRPC batch call TIMEOUT ({}s exceeded) for {} userIds", grpcTimeoutSeconds, distinctIds.size());
+            } else if (code == Status.UNAVAILABLE.getCode()) {
+                log.error("🔌 gRPC server UNAVAILABLE for batch lookup - Is the service running on {}?", grpcServerAddress);
+            } else {
+                log.error("❌ gRPC batch call failed for {} userIds - Status: {} - Message: {}",
+                        distinctIds.size(), code, e.getStatus().getDescription());
+            }
+
+            return staleUserInfos(distinctIds);
+        } catch (Exception e) {
+            log.error("❌ Unexpected error fetching batch user info for {} userIds", distinctIds.size(), e);
+            return staleUserInfos(distinctIds);
+        }
+    }
+
+    /**
+     * Fetch user information for many users WITHOUT blocking, using the gRPC future stub.
+     * Cache hits are answered immediately; misses are split into chunks of {@code batch-size} ids and
+     * every chunk is sent concurrently (one BlogUserInfo call per user if the service lacks the batch RPC).
+     * At most {@code max-concurrent-calls} RPCs are outstanding across the client, so the latency of a
+     * page is the slowest lookup rather than the sum of all of them.
+     *
+     * @param userIds The user IDs to fetch information for (UUIDs as strings)
+     * @return Future of userId to BlogUserInfoResponse; unresolved users are absent. Never completes exceptionally.
+     */
+    public CompletableFuture<Map<String, BlogUserInfoResponse>> getUserInfosAsync(Collection<String> userIds) {
+        Map<String, CompletableFuture<BlogUserInfoResponse>> lookups =
+                lookupUserInfosAsync(userIds, Deadline.after(grpcTimeoutSeconds, TimeUnit.SECONDS));
+
+        return CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                .handle((ignored, error) -> collectCompleted(lookups));
+    }
+
+    /**
+     * Budgeted lookup for request paths (feed rendering). The deadline is propagated into every gRPC call,
+     * and this method returns once it passes with whatever has resolved so far instead of waiting for the
+     * per-call timeout. Callers render unresolved authors with a placeholder and flag the response partial.
+     *
+     * @param userIds  The user IDs to fetch information for (UUIDs as strings)
+     * @param deadline Deadline shared by all lookups of this request
+     * @return resolved users plus whether any existing user was left unresolved
+     */
+    public UserInfoLookup getUserInfosWithin(Collection<String> userIds, Deadline deadline) {
+        Map<String, CompletableFuture<BlogUserInfoResponse>> lookups = lookupUserInfosAsync(userIds, deadline);
+
+        try {
+            CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline.timeRemaining(TimeUnit.NANOSECONDS)), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️  User info budget exhausted with {}/{} lookups pending",
+                    lookups.values().stream().filter(future -> !future.isDone()).count(), lookups.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Individual lookup failures are already logged and resolve to "unresolved"
+        }
+
+        Map<String, BlogUserInfoResponse> users = collectCompleted(lookups);
+        boolean partial = lookups.keySet().stream()
+                .filter(id -> !users.containsKey(id))
+                .anyMatch(id -> {
+                    UserInfoCache.CachedUserInfo cached = userInfoCache.peek(id);
+                    return cached == null || !cached.isNotFound();
+                });
+        if (partial) {
+            partialLookupCounter.increment();
+            // Lookups still pending at the deadline fall back to the last known profile, if any
+            lookups.forEach((id, future) -> {
+                if (!future.isDone()) {
+                    BlogUserInfoResponse stale = userInfoCache.getStale(id);
+                    if (stale != null) {
+                        users.put(id, stale);
+                    }
+                }
+            });
+        }
+        return new UserInfoLookup(users, partial);
+    }
+
+    // One future per distinct user id; cache hits are already completed, misses go through single-flight
+    private Map<String, CompletableFuture<BlogUserInfoResponse>> lookupUserInfosAsync(Collection<String> userIds,
+                                                                                      Deadline deadline) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, CompletableFuture<BlogUserInfoResponse>> lookups = new LinkedHashMap<>();
+        userInfoCache.getAll(distinctIds).forEach((id, cached) -> {
+            lookups.put(id, CompletableFuture.completedFuture(cached.info()));
+            distinctIds.remove(id);
+        });
+
+        if (!distinctIds.isEmpty()) {
+            lookups.putAll(userInfoFlights.executeAllAsync(distinctIds, missing -> fetchUserInfosAsync(missing, deadline)));
+        }
+        return lookups;
+    }
+
+    // Results of the lookups that have completed successfully (failed or pending ones are left out)
+    private Map<String, BlogUserInfoResponse> collectCompleted(Map<String, CompletableFuture<BlogUserInfoResponse>> lookups) {
+        Map<String, BlogUserInfoResponse> users = new HashMap<>();
+        lookups.forEach((id, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                BlogUserInfoResponse info = future.join();
+                if (info != null) {
+                    users.put(id, info);
+                }
+            }
+        });
+        return users;
+    }
+
+    // Async cache miss path: chunked batch RPCs in parallel, or per-user RPCs in parallel as fallback
+    private Map<String, CompletableFuture<BlogUserInfoResponse>> fetchUserInfosAsync(Set<String> ids, Deadline deadline) {
+        Map<String, CompletableFuture<BlogUserInfoResponse>> futures = new HashMap<>();
+
+        if (batchRpcUnimplemented) {
+            for (String id : ids) {
+                futures.put(id, fetchUserInfoAsync(id, deadline));
+            }
+            return futures;
+        }
+
+        List<String> pending = new ArrayList<>(ids);
+        int chunkSize = Math.max(1, batchSize);
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<String> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            CompletableFuture<Map<String, BlogUserInfoResponse>> chunkFuture = fetchChunkAsync(List.copyOf(chunk), deadline);
+            for (String id : chunk) {
+                futures.put(id, chunkFuture.thenApply(users -> users.get(id)));
+            }
+        }
+        return futures;
+    }
+
+    private CompletableFuture<Map<String, BlogUserInfoResponse>> fetchChunkAsync(List<String> chunk, Deadline deadline) {
+        long fetchStarted = System.nanoTime();
+        BatchBlogUserInfoRequest request = BatchBlogUserInfoRequest.newBuilder()
+                .addAllIds(chunk)
+                .build();
+
+        CompletableFuture<Map<String, BlogUserInfoResponse>> chunkFuture = hedgedCallAsync(deadline, () -> futureStub
+                        .withDeadline(deadline)
+                        .batchBlogUserInfo(request))
+                .thenApply(response -> {
+                    Map<String, BlogUserInfoResponse> users = response.getUsersMap();
+                    for (String id : chunk) {
+                        BlogUserInfoResponse info = users.get(id);
+                        if (info != null) {
+                            userInfoCache.put(id, info, fetchStarted);
+                        } else {
+                            userInfoCache.putNotFound(id, fetchStarted);
+                        }
+                    }
+                    return users;
+                });
+
+        return chunkFuture.exceptionallyCompose(error -> {
+            StatusRuntimeException statusError = unwrapStatus(error);
+            if (statusError != null && statusError.getStatus().getCode() == Status.Code.UNIMPLEMENTED) {
+                log.warn("⚠️  BatchBlogUserInfo not implemented by user service at {}, async lookups will fan out per user",
+                        grpcServerAddress);
+                batchRpcUnimplemented = true;
+                Map<String, CompletableFuture<BlogUserInfoResponse>> perUser = new HashMap<>();
+                for (String id : chunk) {
+                    perUser.put(id, fetchUserInfoAsync(id, deadline));
+                }
+                return CompletableFuture.allOf(perUser.values().toArray(new CompletableFuture[0]))
+                        .handle((ignored, perUserError) -> collectCompleted(perUser));
+            }
+            logAsyncFailure("batch of " + chunk.size() + " userIds", error);
+            return CompletableFuture.completedFuture(staleUserInfos(chunk));
+        });
+    }
+
+    private CompletableFuture<BlogUserInfoResponse> fetchUserInfoAsync(String userId, Deadline deadline) {
+        long fetchStarted = System.nanoTime();
+        BlogUserInfoRequest request = BlogUserInfoRequest.newBuilder()
+                .setId(userId)
+                .build();
+
+        return hedgedCallAsync(deadline, () -> futureStub
+                        .withDeadline(deadline)
+                        .blogUserInfo(request))
+                .thenApply(response -> {
+                    userInfoCache.put(userId, response, fetchStarted);
+                    return response;
+                })
+                .exceptionally(error -> {
+                    StatusRuntimeException statusError = unwrapStatus(error);
+                    if (statusError != null && statusError.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                        log.warn("🔍 User NOT FOUND for userId: {} - User may not exist in database", userId);
+                        userInfoCache.putNotFound(userId, fetchStarted);
+                        return null;
+                    }
+                    logAsyncFailure("userId " + userId, error);
+                    return userInfoCache.getStale(userId);
+                });
+    }
+
+    // Sends the call, and if hedging is on and no answer arrived after the hedge delay, a second identical call.
+    // The first successful answer wins and the other attempt is cancelled. A failure only wins once both failed.
+    private <T> CompletableFuture<T> hedgedCallAsync(Deadline deadline, Supplier<ListenableFuture<T>> call) {
+        CompletableFuture<T> primary = callAsync(deadline, true, call);
+        if (!hedgingEnabled || primary.isDone()) {
+            return primary;
+        }
+        long delayNanos = hedgeDelayNanos();
+        if (delayNanos >= deadline.timeRemaining(TimeUnit.NANOSECONDS)) {
+            return primary;
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+        // Attempts that may still answer: the primary and the hedge slot. The slot is held by the timer until it
+        // is cancelled, then by the hedge call; whoever brings the count to zero fails the result.
+        AtomicInteger outstanding = new AtomicInteger(2);
+
+        ScheduledFuture<?> hedgeTimer = scheduler.schedule(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            // Hedges never wait for a permit: when the client is saturated, extra load is the last thing we want.
+            // Only counted as fired once the RPC is actually sent.
+            CompletableFuture<T> second = callAsync(deadline, false, () -> {
+                hedgesFiredCounter.increment();
+                return call.get();
+            });
+            hedge.set(second);
+            second.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        hedgesWonCounter.increment();
+                        primary.cancel(true);
+                    }
+                } else if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(error);
+                }
+            });
+            if (result.isDone()) {
+                second.cancel(true);
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                if (result.complete(value)) {
+                    hedgeTimer.cancel(false);
+                    CompletableFuture<T> second = hedge.get();
+                    if (second != null) {
+                        second.cancel(true);
+                    }
+                }
+                return;
+            }
+            // A hedge that has not started never will; one already started keeps its slot until it answers
+            if (hedgeTimer.cancel(false)) {
+                outstanding.decrementAndGet();
+            }
+            if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+
+    private long hedgeDelayNanos() {
+        long minNanos = TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMs);
+        if (hedgeDelayMs > 0) {
+            return Math.max(minNanos, TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs));
+        }
+        for (ValueAtPercentile percentile : rpcLatencyTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                return Math.max(minNanos, (long) percentile.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return minNanos;
+    }
+
+    // Issues an async RPC once a concurrency permit is free; the permit is released when the call finishes.
+    // Never blocks: without a free permit the call is queued and sent by whichever call releases one next, or
+    // fails with DEADLINE_EXCEEDED if the deadline passes first (immediately if waitForPermit is false).
+    // Cancelling the returned future cancels the underlying gRPC call, or drops it from the queue.
+    private <T> CompletableFuture<T> callAsync(Deadline deadline, boolean waitForPermit, Supplier<ListenableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Queued calls go first
+        if (waitingCalls.isEmpty() && callPermits.tryAcquire()) {
+            issueCall(deadline, call, result);
+            return result;
+        }
+        long remainingNanos = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+        if (!waitForPermit || remainingNanos <= 0) {
+            result.completeExceptionally(noPermitException());
+            return result;
+        }
+
+        PendingCall pending = new PendingCall(() -> issueCall(deadline, call, result), result);
+        waitingCalls.add(pending);
+        ScheduledFuture<?> expiry = scheduler.schedule(() -> {
+            if (waitingCalls.remove(pending)) {
+                result.completeExceptionally(noPermitException());
+            }
+        }, remainingNanos, TimeUnit.NANOSECONDS);
+        result.whenComplete((value, error) -> {
+            expiry.cancel(false);
+            if (error instanceof CancellationException) {
+                waitingCalls.remove(pending);
+            }
+        });
+        // A permit released between the failed tryAcquire and the add would otherwise go unused
+        drainWaitingCalls();
+        return result;
+    }
+
+    // Sends the RPC on a permit the caller already holds
+    private <T> void issueCall(Deadline deadline, Supplier<ListenableFuture<T>> call, CompletableFuture<T> result) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            releasePermit();
+            result.completeExceptionally(circuitOpenException());
+            return;
+        }
+
+        ListenableFuture<T> listenableFuture;
+        long startNanos = System.nanoTime();
+        long budgetNanos = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+        try {
+            listenableFuture = call.get();
+        } catch (RuntimeException e) {
+            releasePermit();
+            recordOutcome(e, budgetNanos);
+            result.completeExceptionally(e);
+            return;
+        }
+
+        result.whenComplete((value, error) -> {
+            if (error instanceof CancellationException) {
+                listenableFuture.cancel(true);
+            }
+        });
+
+        Futures.addCallback(listenableFuture, new FutureCallback<>() {
+            @Override
+            public void onSuccess(T value) {
+                releasePermit();
+                circuitBreaker.onSuccess();
+                rpcLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                result.complete(value);
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                releasePermit();
+                recordOutcome(error, budgetNanos);
+                result.completeExceptionally(error);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void releasePermit() {
+        callPermits.release();
+        drainWaitingCalls();
+    }
+
+    // Hands free permits to queued calls, oldest first. One thread drains at a time (a call failing on the spot
+    // releases its permit from inside the loop); a permit freed meanwhile is picked up by the re-check.
+    private void drainWaitingCalls() {
+        while (!waitingCalls.isEmpty() && callPermits.availablePermits() > 0 && draining.compareAndSet(false, true)) {
+            try {
+                while (!waitingCalls.isEmpty() && callPermits.tryAcquire()) {
+                    PendingCall pending = waitingCalls.poll();
+                    if (pending == null || pending.result().isDone()) {
+                        callPermits.release();
+                        continue;
+                    }
+                    pending.issue().run();
+                }
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private static StatusRuntimeException noPermitException() {
+        return Status.DEADLINE_EXCEEDED
+                .withDescription("No gRPC call permit available before deadline")
+                .asRuntimeException();
+    }
+
+    // An async call waiting for a concurrency permit
+    private record PendingCall(Runnable issue, CompletableFuture<?> result) {
+    }
+
+    // Runs a blocking RPC through the circuit breaker; throws UNAVAILABLE without calling out while it is open
+    private <T> T callBlocking(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw circuitOpenException();
+        }
+        try {
+            T response = call.get();
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (RuntimeException e) {
+            recordOutcome(e, TimeUnit.SECONDS.toNanos(grpcTimeoutSeconds));
+            throw e;
+        }
+    }
+
+    // Only server-side trouble counts against the breaker; answers such as NOT_FOUND prove the service is up
+    // and cancelled calls (losing hedge attempts) say nothing either way. A deadline only counts when the call
+    // had at least min-deadline-ms: running out of a short caller budget (feed enrichment) is not a fault.
+    private void recordOutcome(Throwable error, long budgetNanos) {
+        if (error instanceof CancellationException) {
+            circuitBreaker.onIgnored();
+            return;
+        }
+        StatusRuntimeException statusError = unwrapStatus(error);
+        Status.Code code = statusError != null ? statusError.getStatus().getCode() : Status.Code.UNKNOWN;
+        if (code == Status.Code.DEADLINE_EXCEEDED && budgetNanos < TimeUnit.MILLISECONDS.toNanos(breakerMinDeadlineMs)) {
+            circuitBreaker.onIgnored();
+            return;
+        }
+        switch (code) {
+            case UNAVAILABLE, DEADLINE_EXCEEDED, INTERNAL, UNKNOWN, RESOURCE_EXHAUSTED -> circuitBreaker.onFailure();
+            case CANCELLED -> circuitBreaker.onIgnored();
+            default -> circuitBreaker.onSuccess();
+        }
+    }
+
+    private StatusRuntimeException circuitOpenException() {
+        return Status.UNAVAILABLE.withDescription(CIRCUIT_OPEN_DESCRIPTION).asRuntimeException();
+    }
+
+    private boolean isCircuitOpen(StatusRuntimeException e) {
+        return CIRCUIT_OPEN_DESCRIPTION.equals(e.getStatus().getDescription());
+    }
+
+    // Last known profiles for users whose lookup failed
+    private Map<String, BlogUserInfoResponse> staleUserInfos(Collection<String> userIds) {
+        Map<String, BlogUserInfoResponse> users = new HashMap<>();
+        for (String id : userIds) {
+            BlogUserInfoResponse stale = userInfoCache.getStale(id);
+            if (stale != null) {
+                users.put(id, stale);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Open the profile change stream. Long-lived: no deadline and not counted by the circuit breaker;
+     * the observer is told when the stream ends and is responsible for reconnecting.
+     *
+     * @param fromVersion last change version already applied, 0 to only receive new changes
+     */
+    public void watchUserInfoChanges(long fromVersion, StreamObserver<UserInfoChangeEvent> observer) {
+        asyncStub.watchUserInfoChanges(WatchUserInfoChangesRequest.newBuilder()
+                .setFromVersion(fromVersion)
+                .build(), observer);
+    }
+
+    /**
+     * @return current state of the circuit breaker guarding user-info RPCs
+     */
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private StatusRuntimeException unwrapStatus(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof StatusRuntimeException statusError ? statusError : null;
+    }
+
+    private void logAsyncFailure(String target, Throwable error) {
+        StatusRuntimeException statusError = unwrapStatus(error);
+        if (statusError == null) {
+            log.error("❌ Unexpected error in async user info lookup for {}", target, error);
+            return;
+        }
+        Status.Code code = statusError.getStatus().getCode();
+        if (isCircuitOpen(statusError)) {
+            log.debug("🔴 Circuit open, skipped async gRPC call for {}", target);
+        } else if (code == Status.Code.DEADLINE_EXCEEDED) {
+            log.warn("⏱️  Async gRPC call hit its deadline for {}", target);
+        } else if (code == Status.Code.UNAVAILABLE) {
+            log.error("🔌 gRPC server UNAVAILABLE for {} - Is the service running on {}?", target, grpcServerAddress);
+        } else {
+            log.error("❌ Async gRPC call failed for {} - Status: {} - Message: {}",
+                    target, code, statusError.getStatus().getDescription());
         }
     }
 
@@ -198,51 +1006,59 @@ public class UserGrpcClientService {
     }
 
     /**
-     * Health check - verify if gRPC server is reachable
+     * Health check - result of the last background grpc.health.v1 probe. Does not call the server.
      *
-     * @return true if server is reachable, false otherwise
+     * @return true if the last probe reported SERVING
      */
     public boolean isServerHealthy() {
-        try {
-            log.debug("🏥 Performing gRPC health check...");
+        return healthState.healthy();
+    }
 
-            // FIX: Use a valid UUID format (Zeros) so the server parsing passes
-            // but the DB lookup fails (NOT_FOUND).
-            BlogUserInfoRequest request = BlogUserInfoRequest.newBuilder()
-                    .setId("00000000-0000-0000-0000-000000000000")
-                    .build();
+    public HealthState getHealthState() {
+        return healthState;
+    }
 
-            UserInfoServiceGrpc.UserInfoServiceBlockingStub healthCheckStub =
-                    UserInfoServiceGrpc.newBlockingStub(channel)
-                            .withDeadlineAfter(2, TimeUnit.SECONDS);
+    // One grpc.health.v1 Check; runs on the scheduler and never blocks it (the answer arrives on a gRPC thread)
+    void probeHealth() {
+        HealthCheckRequest request = HealthCheckRequest.newBuilder().setService(healthServiceName).build();
+        ListenableFuture<HealthCheckResponse> probe;
+        try {
+            probe = healthStub.withDeadlineAfter(healthTimeoutMs, TimeUnit.MILLISECONDS).check(request);
+        } catch (RuntimeException e) {
+            updateHealth(false, Status.fromThrowable(e).getCode().name());
+            return;
+        }
+        Futures.addCallback(probe, new FutureCallback<>() {
+            @Override
+            public void onSuccess(HealthCheckResponse response) {
+                updateHealth(response.getStatus() == HealthCheckResponse.ServingStatus.SERVING, response.getStatus().name());
+            }
 
-            // This will throw an exception if the server is down
-            // We expect NOT_FOUND which means server is up but user doesn't exist
-            try {
-                healthCheckStub.blogUserInfo(request);
-                log.debug("✅ Health check: Server is UP and responding");
-                return true;
-            } catch (StatusRuntimeException e) {
-                // NOT_FOUND means server is UP (it responded), just user doesn't exist
-                if (e.getStatus().getCode() == Status.NOT_FOUND.getCode()) {
-                    log.debug("✅ Health check: Server is UP (responded with NOT_FOUND as expected)");
-                    return true;
+            @Override
+            public void onFailure(Throwable error) {
+                Status.Code code = Status.fromThrowable(error).getCode();
+                if (code == Status.Code.UNIMPLEMENTED) {
+                    // Server answered but does not host the health service; it is up, which is all we can tell
+                    updateHealth(true, "HEALTH_SERVICE_UNIMPLEMENTED");
+                } else if (code == Status.Code.NOT_FOUND) {
+                    // Health service answered but does not know the service name; likewise the server is up
+                    updateHealth(true, "HEALTH_SERVICE_NAME_UNKNOWN");
+                } else {
+                    updateHealth(false, code.name());
                 }
-                throw e; // Re-throw other errors
             }
-        } catch (StatusRuntimeException e) {
-            if (e.getStatus().getCode() == Status.UNAVAILABLE.getCode()) {
-                log.warn("❌ Health check FAILED: Server UNAVAILABLE at {}", grpcServerAddress);
-                log.warn("💡 Is the user-info service running? Check with: netstat -ano | findstr :9090");
-            } else if (e.getStatus().getCode() == Status.DEADLINE_EXCEEDED.getCode()) {
-                log.warn("❌ Health check FAILED: TIMEOUT - Server is slow or not responding");
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void updateHealth(boolean healthy, String status) {
+        HealthState previous = healthState;
+        healthState = new HealthState(healthy, status, LocalDateTime.now());
+        if (previous.checkedAt() == null || previous.healthy() != healthy) {
+            if (healthy) {
+                log.info("✅ gRPC server is HEALTHY ({})", status);
             } else {
-                log.warn("❌ Health check FAILED: {} - {}", e.getStatus().getCode(), e.getStatus().getDescription());
+                log.warn("❌ gRPC server is NOT HEALTHY ({}) at {}", status, grpcServerAddress);
             }
-            return false;
-        } catch (Exception e) {
-            log.error("❌ Health check ERROR: {}", e.getMessage());
-            return false;
         }
     }
 }
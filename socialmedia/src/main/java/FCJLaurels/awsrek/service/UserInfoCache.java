@@ -0,0 +1,267 @@
+package FCJLaurels.awsrek.service;
+
+import FCJ.user.grpc.BlogUserInfoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process cache of author profiles (name + avatar) fetched from the user-info gRPC service.
+ * Backed by Caffeine (W-TinyLFU eviction). Users the service reported as NOT_FOUND are cached as
+ * negative entries with a shorter TTL so deleted accounts do not cost an RPC on every render.
+ * Profiles are also kept in a longer-lived "last known good" store that is only read when the
+ * user service is failing (stale-while-error).
+ * While the user-info change stream is connected ({@link UserInfoChangeSubscriber}) entries are kept
+ * for the longer {@code watched-ttl-seconds}, since changes arrive as events instead of via expiry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserInfoCache {
+
+    public static final String CACHE_NAME = "user-info";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${grpc.client.user-service.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${grpc.client.user-service.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${grpc.client.user-service.cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    // How long a profile may still be served after its TTL while the user service is unavailable
+    @Value("${grpc.client.user-service.cache.stale-ttl-seconds:86400}")
+    private long staleTtlSeconds;
+
+    // TTL for profiles cached while push invalidation is active
+    @Value("${grpc.client.user-service.cache.watched-ttl-seconds:3600}")
+    private long watchedTtlSeconds;
+
+    private volatile boolean pushInvalidationActive = false;
+
+    // When a pushed change was last applied per user (System.nanoTime), and when the cache was last cleared.
+    // Fetches that started earlier must not overwrite it; kept well beyond the longest RPC deadline.
+    private static final long PUSH_MEMORY_SECONDS = 60;
+    private Cache<String, Long> pushedAt;
+    private volatile long resetAtNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(PUSH_MEMORY_SECONDS);
+
+    private Cache<String, CachedUserInfo> cache;
+    private Cache<String, BlogUserInfoResponse> lastKnownGood;
+    private Counter staleServedCounter;
+
+    /**
+     * A cached lookup result. {@code info == null} means the user service answered NOT_FOUND.
+     */
+    public record CachedUserInfo(BlogUserInfoResponse info, long fetchedAtMillis) {
+        public boolean isNotFound() {
+            return info == null;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedUserInfo>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedUserInfo value, long currentTime) {
+                        if (value.isNotFound()) {
+                            return TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+                        }
+                        return TimeUnit.SECONDS.toNanos(pushInvalidationActive ? watchedTtlSeconds : ttlSeconds);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedUserInfo value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedUserInfo value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(staleTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        pushedAt = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(PUSH_MEMORY_SECONDS, TimeUnit.SECONDS)
+                .build();
+        staleServedCounter = Counter.builder("user.info.cache.stale.served")
+                .description("Author profiles served past their TTL because the user service was failing")
+                .register(meterRegistry);
+
+        log.info("🗄️  User info cache initialized - maxSize: {}, ttl: {}s (watched: {}s), negativeTtl: {}s, staleTtl: {}s",
+                maxSize, ttlSeconds, watchedTtlSeconds, negativeTtlSeconds, staleTtlSeconds);
+    }
+
+    /**
+     * @return the cached entry for the user, or null on a miss
+     */
+    public CachedUserInfo get(String userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    /**
+     * Same as {@link #get(String)} but does not count towards hit/miss statistics.
+     */
+    public CachedUserInfo peek(String userId) {
+        return cache.policy().getIfPresentQuietly(userId);
+    }
+
+    /**
+     * Look up several users at once; only hits are present in the returned map.
+     */
+    public Map<String, CachedUserInfo> getAll(Collection<String> userIds) {
+        Map<String, CachedUserInfo> hits = new HashMap<>();
+        for (String userId : userIds) {
+            CachedUserInfo cached = cache.getIfPresent(userId);
+            if (cached != null) {
+                hits.put(userId, cached);
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Store a fetched profile, unless a pushed change for the user was applied after the fetch started
+     * (the answer may predate it, and would otherwise be kept for the whole watched TTL).
+     *
+     * @param fetchStartedNanos {@link System#nanoTime()} taken before the RPC was sent
+     */
+    public void put(String userId, BlogUserInfoResponse info, long fetchStartedNanos) {
+        store(userId, new CachedUserInfo(info, System.currentTimeMillis()), fetchStartedNanos);
+    }
+
+    /**
+     * Store a NOT_FOUND answer; same rules as {@link #put(String, BlogUserInfoResponse, long)}.
+     */
+    public void putNotFound(String userId, long fetchStartedNanos) {
+        store(userId, new CachedUserInfo(null, System.currentTimeMillis()), fetchStartedNanos);
+    }
+
+    private void store(String userId, CachedUserInfo fetched, long fetchStartedNanos) {
+        // compute() serializes with the push paths below, so the check and the write are one step
+        CachedUserInfo stored = cache.asMap().compute(userId, (id, old) ->
+                supersededByPush(id, fetchStartedNanos) ? old : fetched);
+        if (stored != fetched) {
+            log.debug("🗄️  Dropped user info fetched for {} before a pushed change", userId);
+            return;
+        }
+        if (fetched.isNotFound()) {
+            lastKnownGood.invalidate(userId);
+        } else {
+            lastKnownGood.put(userId, fetched.info());
+        }
+    }
+
+    private boolean supersededByPush(String userId, long fetchStartedNanos) {
+        Long pushed = pushedAt.getIfPresent(userId);
+        return fetchStartedNanos - resetAtNanos <= 0 || (pushed != null && fetchStartedNanos - pushed <= 0);
+    }
+
+    /**
+     * Apply a pushed profile change: replaces the entry if the user is cached, otherwise does nothing
+     * (users nobody rendered recently are not worth caching).
+     */
+    public void updateIfPresent(String userId, BlogUserInfoResponse info) {
+        pushedAt.put(userId, System.nanoTime());
+        if (cache.asMap().computeIfPresent(userId, (id, old) -> new CachedUserInfo(info, System.currentTimeMillis())) != null) {
+            lastKnownGood.put(userId, info);
+        } else {
+            lastKnownGood.invalidate(userId);
+        }
+    }
+
+    /**
+     * Apply a pushed deletion: the user is cached as NOT_FOUND.
+     */
+    public void applyDeleted(String userId) {
+        pushedAt.put(userId, System.nanoTime());
+        cache.asMap().compute(userId, (id, old) -> new CachedUserInfo(null, System.currentTimeMillis()));
+        lastKnownGood.invalidate(userId);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+        lastKnownGood.invalidate(userId);
+    }
+
+    /**
+     * Drops every entry; fetches already in flight are not stored either.
+     */
+    public void invalidateAll() {
+        resetAtNanos = System.nanoTime();
+        cache.invalidateAll();
+        lastKnownGood.invalidateAll();
+    }
+
+    /**
+     * Switches between the regular and the watched TTL for entries written from now on. When push
+     * invalidation stops, entries written under the watched TTL are shortened to the regular one.
+     */
+    public void setPushInvalidationActive(boolean active) {
+        if (pushInvalidationActive == active) {
+            return;
+        }
+        pushInvalidationActive = active;
+        if (!active) {
+            cache.policy().expireVariably().ifPresent(expiry -> cache.asMap().forEach((id, value) -> {
+                if (!value.isNotFound()) {
+                    expiry.getExpiresAfter(id).ifPresent(remaining -> {
+                        if (remaining.toSeconds() > ttlSeconds) {
+                            expiry.setExpiresAfter(id, ttlSeconds, TimeUnit.SECONDS);
+                        }
+                    });
+                }
+            }));
+        }
+        log.info("🗄️  User info cache push invalidation {} - ttl now {}s", active ? "ON" : "OFF",
+                active ? watchedTtlSeconds : ttlSeconds);
+    }
+
+    public boolean isPushInvalidationActive() {
+        return pushInvalidationActive;
+    }
+
+    /**
+     * Last successfully fetched profile for the user, even if its TTL has passed.
+     * Only meant for fallback when the user service cannot be reached.
+     *
+     * @return the stale profile, or null if none is retained
+     */
+    public BlogUserInfoResponse getStale(String userId) {
+        BlogUserInfoResponse stale = lastKnownGood.getIfPresent(userId);
+        if (stale != null) {
+            staleServedCounter.increment();
+        }
+        return stale;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
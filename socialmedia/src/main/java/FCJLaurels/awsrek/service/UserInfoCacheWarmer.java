@@ -0,0 +1,107 @@
+package FCJLaurels.awsrek.service;
+
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.repository.BlogRepository;
+import io.grpc.Deadline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the author profiles of the newest blogs into {@link UserInfoCache} at startup, so the first feed
+ * requests after a deploy do not all miss the cache at once. Runs as an ApplicationRunner: liveness is
+ * already up while it runs, readiness only turns to ACCEPTING_TRAFFIC after it finished or hit its time limit.
+ *
+ * Metrics: {@code user.info.cache.warmup.duration}, {@code user.info.cache.warmup.entries}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserInfoCacheWarmer implements ApplicationRunner {
+
+    private final BlogRepository blogRepository;
+    private final UserGrpcClientService userGrpcClientService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${grpc.client.user-service.cache.warmup.enabled:false}")
+    private boolean enabled;
+
+    // Number of newest blogs whose authors are loaded
+    @Value("${grpc.client.user-service.cache.warmup.blogs:500}")
+    private int blogCount;
+
+    @Value("${grpc.client.user-service.cache.warmup.time-limit-ms:10000}")
+    private long timeLimitMs;
+
+    // Blogs rendered from their author snapshot never hit the cache, their authors are skipped
+    @Value("${blog.author-snapshot.read-enabled:true}")
+    private boolean authorSnapshotReads;
+
+    private final AtomicLong durationMillis = new AtomicLong();
+    private final AtomicLong loadedEntries = new AtomicLong();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        TimeGauge.builder("user.info.cache.warmup.duration", durationMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time the startup author cache warm-up took")
+                .register(meterRegistry);
+        Gauge.builder("user.info.cache.warmup.entries", loadedEntries, AtomicLong::get)
+                .description("Author profiles loaded into the cache by the startup warm-up")
+                .register(meterRegistry);
+
+        long start = System.nanoTime();
+        Deadline deadline = Deadline.after(timeLimitMs, TimeUnit.MILLISECONDS);
+        log.info("🔥 Warming author cache from the newest {} blogs (limit {}ms)", blogCount, timeLimitMs);
+
+        // The Mongo read has no deadline of its own, so the whole warm-up runs aside and we stop waiting at the limit
+        CompletableFuture<Integer> warmup = CompletableFuture.supplyAsync(() -> warm(deadline));
+        try {
+            loadedEntries.set(warmup.get(Math.max(0, deadline.timeRemaining(TimeUnit.MILLISECONDS)), TimeUnit.MILLISECONDS));
+            durationMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.info("🔥 Author cache warm-up loaded {} profiles in {}ms", loadedEntries.get(), durationMillis.get());
+        } catch (TimeoutException e) {
+            durationMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.warn("⏱️  Author cache warm-up hit its {}ms limit, continuing startup", timeLimitMs);
+        } catch (ExecutionException e) {
+            durationMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.warn("⚠️  Author cache warm-up failed, continuing startup: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int warm(Deadline deadline) {
+        List<blog> newest = blogRepository.findAllByOrderByCreationDateDescIdDesc(PageRequest.of(0, blogCount));
+        Set<String> authorIds = newest.stream()
+                .filter(entity -> !authorSnapshotReads || entity.getAuthorSnapshot() == null)
+                .map(blog::getAuthor)
+                .filter(Objects::nonNull)
+                .map(UUID::toString)
+                .collect(Collectors.toSet());
+        if (authorIds.isEmpty() || deadline.isExpired()) {
+            return 0;
+        }
+        return userGrpcClientService.getUserInfosWithin(authorIds, deadline).users().size();
+    }
+}
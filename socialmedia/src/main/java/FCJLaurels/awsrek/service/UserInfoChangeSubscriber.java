@@ -0,0 +1,199 @@
+package FCJLaurels.awsrek.service;
+
+import FCJ.user.grpc.UserInfoChangeEvent;
+import FCJ.user.grpc.WatchUserInfoChangesRequest;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a WatchUserInfoChanges stream open to the user service and applies the events to
+ * {@link UserInfoCache}: updates replace cached profiles, deletions turn them into NOT_FOUND entries,
+ * RESET drops everything. Each change is also published as a {@link UserInfoChangedEvent}.
+ * When the stream breaks it reconnects with exponential backoff and resumes from the last applied version.
+ *
+ * Metrics: {@code user.info.watch.events{type}}, {@code user.info.watch.reconnects},
+ * {@code user.info.watch.connected} (1 while the stream is up)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserInfoChangeSubscriber {
+
+    private final UserGrpcClientService userGrpcClientService;
+    private final UserInfoCache userInfoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${grpc.client.user-service.watch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${grpc.client.user-service.watch.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${grpc.client.user-service.watch.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    private final AtomicLong lastVersion = new AtomicLong();
+    private ScheduledExecutorService reconnectScheduler;
+    private volatile ClientCallStreamObserver<WatchUserInfoChangesRequest> activeCall;
+    private volatile boolean running = false;
+    private volatile boolean connected = false;
+    private long backoffMs;
+    private Counter reconnectCounter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        backoffMs = initialBackoffMs;
+        reconnectCounter = Counter.builder("user.info.watch.reconnects")
+                .description("Times the user info change stream was re-opened")
+                .register(meterRegistry);
+        Gauge.builder("user.info.watch.connected", this, subscriber -> subscriber.connected ? 1 : 0)
+                .description("1 while the user info change stream is connected")
+                .register(meterRegistry);
+        reconnectScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-info-watch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconnectScheduler.execute(this::connect);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        ClientCallStreamObserver<WatchUserInfoChangesRequest> call = activeCall;
+        if (call != null) {
+            call.cancel("shutting down", null);
+        }
+        if (reconnectScheduler != null) {
+            reconnectScheduler.shutdownNow();
+        }
+        userInfoCache.setPushInvalidationActive(false);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public long getLastVersion() {
+        return lastVersion.get();
+    }
+
+    private void connect() {
+        if (!running) {
+            return;
+        }
+        long fromVersion = lastVersion.get();
+        log.debug("📡 Opening user info change stream from version {}", fromVersion);
+        try {
+            userGrpcClientService.watchUserInfoChanges(fromVersion, new ClientResponseObserver<WatchUserInfoChangesRequest, UserInfoChangeEvent>() {
+                @Override
+                public void beforeStart(ClientCallStreamObserver<WatchUserInfoChangesRequest> requestStream) {
+                    activeCall = requestStream;
+                }
+
+                @Override
+                public void onNext(UserInfoChangeEvent event) {
+                    if (!connected) {
+                        // First message (at least the initial heartbeat) proves the server accepted the subscription
+                        connected = true;
+                        backoffMs = initialBackoffMs;
+                        userInfoCache.setPushInvalidationActive(true);
+                        log.info("📡 User info change stream connected (from version {})", fromVersion);
+                    }
+                    apply(event);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    disconnected(Status.fromThrowable(error));
+                }
+
+                @Override
+                public void onCompleted() {
+                    disconnected(Status.OK);
+                }
+            });
+        } catch (RuntimeException e) {
+            disconnected(Status.fromThrowable(e));
+        }
+    }
+
+    private void apply(UserInfoChangeEvent event) {
+        switch (event.getType()) {
+            case UPDATED -> {
+                userInfoCache.updateIfPresent(event.getId(), event.getUser());
+                eventPublisher.publishEvent(new UserInfoChangedEvent(event.getId(), event.getUser()));
+            }
+            case DELETED -> {
+                userInfoCache.applyDeleted(event.getId());
+                eventPublisher.publishEvent(new UserInfoChangedEvent(event.getId(), null));
+            }
+            case RESET -> {
+                log.warn("🧹 User service cannot replay changes since version {}, clearing author cache", lastVersion.get());
+                userInfoCache.invalidateAll();
+            }
+            default -> {
+                // HEARTBEAT, or a type this client does not know: nothing to apply besides the version
+            }
+        }
+        Counter.builder("user.info.watch.events")
+                .description("User info change events received")
+                .tag("type", event.getType().name())
+                .register(meterRegistry)
+                .increment();
+        lastVersion.accumulateAndGet(event.getVersion(), Math::max);
+    }
+
+    private void disconnected(Status status) {
+        activeCall = null;
+        boolean wasConnected = connected;
+        connected = false;
+        // Changes may be missed from here on, fall back to the regular TTL until we are back
+        userInfoCache.setPushInvalidationActive(false);
+        if (!running) {
+            return;
+        }
+
+        long delay = backoffMs;
+        backoffMs = Math.min(maxBackoffMs, backoffMs * 2);
+        // Jitter keeps many instances from reconnecting in lockstep after a user-service restart
+        long jittered = ThreadLocalRandom.current().nextLong(delay / 2, delay + 1);
+        if (wasConnected) {
+            log.warn("📡 User info change stream lost ({}), reconnecting in {}ms from version {}",
+                    status.getCode(), jittered, lastVersion.get());
+        } else if (status.getCode() == Status.Code.UNIMPLEMENTED) {
+            log.debug("📡 User service does not support WatchUserInfoChanges, retrying in {}ms", jittered);
+        } else {
+            log.debug("📡 User info change stream unavailable ({}), retrying in {}ms", status.getCode(), jittered);
+        }
+        reconnectCounter.increment();
+        try {
+            reconnectScheduler.schedule(this::connect, jittered, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // Scheduler already shut down
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package FCJLaurels.awsrek.service;
+
+import FCJ.user.grpc.BlogUserInfoResponse;
+
+/**
+ * Published when the user service reports that a profile changed. {@code info} is null for deleted users.
+ */
+public record UserInfoChangedEvent(String userId, BlogUserInfoResponse info) {
+
+    public boolean isDeleted() {
+        return info == null;
+    }
+}
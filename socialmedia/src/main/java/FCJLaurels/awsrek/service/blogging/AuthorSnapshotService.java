@@ -0,0 +1,222 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJ.user.grpc.BlogUserInfoResponse;
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.model.timelineEntry;
+import FCJLaurels.awsrek.service.CircuitBreaker;
+import FCJLaurels.awsrek.service.UserGrpcClientService;
+import FCJLaurels.awsrek.service.UserInfoCache;
+import FCJLaurels.awsrek.service.UserInfoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the denormalized author profile ({@link blog.AuthorSnapshot}) stored on blog documents.
+ * Snapshots are taken from the author cache when a blog is created and refreshed by a background job
+ * that re-fetches missing or outdated snapshots in batches, one updateMulti per author. Profile changes
+ * pushed by the user service are written through immediately.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthorSnapshotService {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserGrpcClientService userGrpcClientService;
+    private final UserInfoCache userInfoCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.author-snapshot.refresh-enabled:true}")
+    private boolean refreshEnabled;
+
+    // Snapshots older than this are re-fetched by the background job
+    @Value("${blog.author-snapshot.max-age-seconds:3600}")
+    private long maxAgeSeconds;
+
+    // Blogs scanned per batch, and batches per run
+    @Value("${blog.author-snapshot.batch-size:500}")
+    private int batchSize;
+
+    @Value("${blog.author-snapshot.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private Counter refreshedCounter;
+    private volatile boolean indexEnsured = false;
+
+    @PostConstruct
+    public void init() {
+        refreshedCounter = Counter.builder("blog.author.snapshot.refreshed")
+                .description("Blog documents whose author snapshot was written by the background refresh")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Snapshot of the author's current profile for a new blog, taken from the author cache only: the write
+     * path never waits for a user-service RPC.
+     *
+     * @return the snapshot, or null if the author is not cached (the refresh job fills it in later)
+     */
+    public blog.AuthorSnapshot snapshotFor(String authorId) {
+        // Only a fresh cache entry counts: a stale fallback profile must not be stamped as fetched now
+        UserInfoCache.CachedUserInfo fresh = userInfoCache.peek(authorId);
+        if (fresh == null) {
+            return null;
+        }
+        BlogUserInfoResponse info = fresh.info();
+        return blog.AuthorSnapshot.builder()
+                .name(info != null ? info.getName() : null)
+                .avatar(info != null ? info.getAvatar() : null)
+                .fetchedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.author-snapshot.refresh-interval-ms:60000}",
+            initialDelayString = "${blog.author-snapshot.refresh-initial-delay-ms:30000}")
+    public void refreshStaleSnapshots() {
+        if (!refreshEnabled) {
+            return;
+        }
+        if (userGrpcClientService.getCircuitBreakerState() == CircuitBreaker.State.OPEN) {
+            log.debug("⏭️  Skipping author snapshot refresh, user service circuit is open");
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(maxAgeSeconds);
+        long updatedBlogs = 0;
+        int refreshedAuthors = 0;
+
+        try {
+            ensureIndex();
+            for (int round = 0; round < maxBatchesPerRun; round++) {
+                Query staleQuery = new Query(staleSnapshot(cutoff).and("author").ne(null)).limit(batchSize);
+                staleQuery.fields().include("author");
+                List<blog> stale = mongoTemplate.find(staleQuery, blog.class);
+                if (stale.isEmpty()) {
+                    break;
+                }
+
+                Set<String> authorIds = stale.stream()
+                        .map(blog::getAuthor)
+                        .filter(Objects::nonNull)
+                        .map(UUID::toString)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                userGrpcClientService.getUserInfos(authorIds);
+
+                int resolved = 0;
+                for (String authorId : authorIds) {
+                    UserInfoCache.CachedUserInfo fresh = userInfoCache.peek(authorId);
+                    if (fresh == null) {
+                        // Lookup failed; keep the old snapshot and try again next run
+                        continue;
+                    }
+                    updatedBlogs += writeSnapshot(UUID.fromString(authorId), fresh.info(), staleSnapshot(cutoff));
+                    resolved++;
+                }
+                refreshedAuthors += resolved;
+
+                // Nothing resolvable left in this batch (or it was the last one), don't spin on the same documents
+                if (resolved == 0 || stale.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ Author snapshot refresh failed after {} blogs", updatedBlogs, e);
+        }
+
+        if (updatedBlogs > 0) {
+            refreshedCounter.increment(updatedBlogs);
+            log.info("🔄 Refreshed author snapshots on {} blogs for {} authors", updatedBlogs, refreshedAuthors);
+        }
+    }
+
+    // Pushed profile change: rewrite the snapshot on every blog of the author that has one
+    // (blogs without a snapshot are picked up by the refresh job)
+    @EventListener
+    public void onUserInfoChanged(UserInfoChangedEvent event) {
+        try {
+            long updated = writeSnapshot(UUID.fromString(event.userId()), event.info(),
+                    Criteria.where("authorSnapshot").ne(null));
+            if (updated > 0) {
+                log.debug("🔄 Applied pushed profile change of {} to {} blog snapshots", event.userId(), updated);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️  Ignoring profile change for non-UUID user id {}", event.userId());
+        } catch (Exception e) {
+            // The refresh job will catch up once the snapshot ages out
+            log.error("❌ Failed to apply profile change of {} to blog snapshots", event.userId(), e);
+        }
+    }
+
+    // Created here rather than with @Indexed so application startup does not need a reachable database
+    private void ensureIndex() {
+        if (!indexEnsured) {
+            mongoTemplate.indexOps(blog.class).createIndex(new Index("authorSnapshot.fetchedAt", Sort.Direction.ASC));
+            indexEnsured = true;
+        }
+    }
+
+    // Writes the profile onto the author's blogs matching scope and onto their timeline entries;
+    // the version only moves where name or avatar changed
+    private long writeSnapshot(UUID authorId, BlogUserInfoResponse info, Criteria scope) {
+        String name = info != null ? info.getName() : null;
+        String avatar = info != null ? info.getAvatar() : null;
+        LocalDateTime now = LocalDateTime.now();
+
+        Query changed = new Query(new Criteria().andOperator(
+                Criteria.where("author").is(authorId),
+                scope,
+                new Criteria().orOperator(
+                        Criteria.where("authorSnapshot.name").ne(name),
+                        Criteria.where("authorSnapshot.avatar").ne(avatar))));
+        long updated = mongoTemplate.updateMulti(changed, new Update()
+                .set("authorSnapshot.name", name)
+                .set("authorSnapshot.avatar", avatar)
+                .set("authorSnapshot.fetchedAt", now)
+                .inc("authorSnapshot.version", 1), blog.class).getModifiedCount();
+
+        // Fanned-out timeline entries carry a copy of the snapshot; only a changed name or avatar is worth rewriting
+        mongoTemplate.updateMulti(new Query(new Criteria().andOperator(
+                Criteria.where("author").is(authorId),
+                new Criteria().orOperator(
+                        Criteria.where("authorSnapshot.name").ne(name),
+                        Criteria.where("authorSnapshot.avatar").ne(avatar)))), new Update()
+                .set("authorSnapshot.name", name)
+                .set("authorSnapshot.avatar", avatar)
+                .set("authorSnapshot.fetchedAt", now)
+                .inc("authorSnapshot.version", 1), timelineEntry.class);
+
+        Query unchanged = new Query(new Criteria().andOperator(
+                Criteria.where("author").is(authorId),
+                scope));
+        updated += mongoTemplate.updateMulti(unchanged, new Update()
+                .set("authorSnapshot.fetchedAt", now), blog.class).getModifiedCount();
+        return updated;
+    }
+
+    private static Criteria staleSnapshot(LocalDateTime cutoff) {
+        return new Criteria().orOperator(
+                Criteria.where("authorSnapshot").is(null),
+                Criteria.where("authorSnapshot.fetchedAt").lt(cutoff));
+    }
+}
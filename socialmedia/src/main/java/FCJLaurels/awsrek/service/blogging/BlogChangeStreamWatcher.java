@@ -0,0 +1,42 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Follows blog inserts and deletes through a Mongo change stream and publishes them as
+ * {@link RemoteBlogChangedEvent}s, so in multi-node setups every instance learns about posts written
+ * elsewhere (live push, feed head buffer). Requires a replica set, hence off by default.
+ *
+ * Metrics: {@code blog.change.stream.connected} (1 while the stream is open)
+ */
+@Component
+public class BlogChangeStreamWatcher extends ChangeStreamWatcher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${blog.live.change-stream.enabled:false}")
+    private boolean enabled;
+
+    public BlogChangeStreamWatcher(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry) {
+        super(mongoTemplate, meterRegistry, blog.class, "Blog", "blog.change.stream.connected");
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected void onChange(String id, Document inserted) {
+        blog post = inserted != null ? mongoTemplate.getConverter().read(blog.class, inserted) : null;
+        eventPublisher.publishEvent(new RemoteBlogChangedEvent(id, post));
+    }
+}
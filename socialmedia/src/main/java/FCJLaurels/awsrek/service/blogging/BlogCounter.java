@@ -0,0 +1,62 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory total of blog documents for page metadata, so paginated feeds do not count the collection
+ * on every request. Adjusted on create/delete in this instance and periodically reset from
+ * {@code estimatedDocumentCount} (collection metadata, no scan), which also picks up writes made by
+ * other instances. The value is therefore approximate between reconciliations.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlogCounter {
+
+    private static final long UNKNOWN = -1;
+
+    private final MongoTemplate mongoTemplate;
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    /**
+     * @return the current total, loading it from the collection metadata on first use
+     */
+    public long get() {
+        long current = count.get();
+        return current != UNKNOWN ? current : reconcile();
+    }
+
+    public void increment() {
+        count.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : current + 1);
+    }
+
+    public void decrement() {
+        count.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : Math.max(0, current - 1));
+    }
+
+    public long reconcile() {
+        long estimated = mongoTemplate.estimatedCount(blog.class);
+        long previous = count.getAndSet(estimated);
+        if (previous != UNKNOWN && previous != estimated) {
+            log.debug("Blog count reconciled: {} -> {}", previous, estimated);
+        }
+        return estimated;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.count.reconcile-interval-ms:60000}",
+            initialDelayString = "${blog.count.reconcile-interval-ms:60000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("⚠️  Blog count reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
+
+/**
+ * Published once a new blog is stored, with the feed rendering of it. Comes from {@code createBlog} on this
+ * instance or, with the change stream enabled, from inserts made by other instances.
+ */
+public record BlogCreatedEvent(BlogDisplay display) {
+}
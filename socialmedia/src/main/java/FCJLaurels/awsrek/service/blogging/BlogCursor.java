@@ -0,0 +1,132 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
+import FCJLaurels.awsrek.model.blog;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the feed order (creationDate desc, id desc): the next page starts strictly after
+ * {@code (creationDate, id)}. {@code id} is null for legacy cursors that only carried a timestamp.
+ *
+ * Token layout (base64url, no padding):
+ * {@code [1][creationDate epoch millis: 8 bytes][id as UUID: 16 bytes]} (34 characters), or
+ * {@code [2][creationDate epoch millis: 8 bytes][id as UTF-8]} for ids that are not UUIDs.
+ * The timestamp is taken as UTC on both sides so it round-trips to the exact stored value.
+ */
+public record BlogCursor(LocalDateTime creationDate, String id) {
+
+    private static final byte UUID_ID = 1;
+    private static final byte STRING_ID = 2;
+
+    public static BlogCursor of(blog entity) {
+        return new BlogCursor(entity.getCreationDate(), entity.getId());
+    }
+
+    public static BlogCursor of(BlogDisplay display) {
+        return new BlogCursor(display.getCreationDate(), display.getId());
+    }
+
+    /**
+     * True if this position comes strictly after {@code position} in feed order. A position without id
+     * (legacy cursor) only compares timestamps, like the query it stands for.
+     */
+    public boolean isAfter(BlogCursor position) {
+        int byDate = creationDate.compareTo(position.creationDate());
+        if (byDate != 0 || position.id() == null) {
+            return byDate < 0;
+        }
+        return id.compareTo(position.id()) < 0;
+    }
+
+    /**
+     * Query filter for the positions strictly after this one, on documents ordered by
+     * {@code (creationDate, idField)}. Same shape as {@code BlogRepository.findPageAfter}.
+     */
+    public Criteria afterCriteria(String idField) {
+        if (id == null) {
+            return Criteria.where("creationDate").lt(creationDate);
+        }
+        return Criteria.where("creationDate").lte(creationDate).orOperator(
+                Criteria.where("creationDate").lt(creationDate),
+                Criteria.where(idField).lt(id));
+    }
+
+    public String encode() {
+        long millis = creationDate.toInstant(ZoneOffset.UTC).toEpochMilli();
+        UUID uuid = parseUuid(id);
+        ByteBuffer buffer;
+        if (uuid != null) {
+            buffer = ByteBuffer.allocate(1 + 8 + 16)
+                    .put(UUID_ID)
+                    .putLong(millis)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits());
+        } else {
+            byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+            buffer = ByteBuffer.allocate(1 + 8 + idBytes.length)
+                    .put(STRING_ID)
+                    .putLong(millis)
+                    .put(idBytes);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Parses a cursor token, including the legacy Base64 ISO-timestamp format.
+     *
+     * @throws IllegalArgumentException if the token is neither
+     */
+    public static BlogCursor decode(String token) {
+        byte[] bytes = decodeBase64(token);
+        if (bytes.length >= 9 && (bytes[0] == UUID_ID || bytes[0] == STRING_ID)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte kind = buffer.get();
+            LocalDateTime creationDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC);
+            if (kind == UUID_ID && buffer.remaining() == 16) {
+                return new BlogCursor(creationDate, new UUID(buffer.getLong(), buffer.getLong()).toString());
+            }
+            if (kind == STRING_ID && buffer.hasRemaining()) {
+                return new BlogCursor(creationDate, new String(bytes, 9, bytes.length - 9, StandardCharsets.UTF_8));
+            }
+        }
+        try {
+            // Legacy cursor: Base64 of an ISO local date-time, meaning "older than this timestamp"
+            return new BlogCursor(LocalDateTime.parse(new String(bytes, StandardCharsets.UTF_8),
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME), null);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static byte[] decodeBase64(String token) {
+        try {
+            return Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            // Legacy cursors used the standard alphabet with padding
+            try {
+                return Base64.getDecoder().decode(token);
+            } catch (IllegalArgumentException legacyError) {
+                throw new IllegalArgumentException("Invalid cursor", legacyError);
+            }
+        }
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            UUID uuid = UUID.fromString(value);
+            // fromString is lenient (e.g. missing leading zeros); only accept ids that round-trip exactly
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The short excerpt stored on each blog and shown in feeds instead of the full content, so feed reads
+ * and responses don't carry whole posts. Computed on write; blogs written before the field existed are
+ * backfilled once at startup with a server-side update (the content never leaves the database).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BlogExcerptService {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Length of the excerpt in characters (code points)
+    @Value("${blog.feed.excerpt-length:280}")
+    private int excerptLength;
+
+    @Value("${blog.feed.excerpt-backfill-enabled:true}")
+    private boolean backfillEnabled;
+
+    /**
+     * @return the first excerpt-length characters of the content, never splitting a surrogate pair
+     */
+    public String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        if (content.codePointCount(0, content.length()) <= excerptLength) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, excerptLength));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingExcerpts() {
+        if (!backfillEnabled) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                // $substrCP counts code points like excerptOf; documents without content are left alone
+                Query missing = new Query(Criteria.where("excerpt").exists(false).and("content").type(2));
+                long updated = mongoTemplate.updateMulti(missing, AggregationUpdate.update()
+                        .set("excerpt").toValue(StringOperators.valueOf("content").substringCP(0, excerptLength)),
+                        blog.class).getModifiedCount();
+                if (updated > 0) {
+                    log.info("✂️  Backfilled excerpts on {} blogs", updated);
+                }
+            } catch (Exception e) {
+                log.error("❌ Excerpt backfill failed: {}", e.getMessage());
+            }
+        });
+    }
+}
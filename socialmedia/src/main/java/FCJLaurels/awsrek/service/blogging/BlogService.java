@@ -4,10 +4,12 @@ import FCJLaurels.awsrek.DTO.blogDTO.BlogCreationDTO;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogDTO;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogEditDTO;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogPageResponse;
-import FCJLaurels.awsrek.DTO.blogDTO.BlogCursorResponse;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
 import FCJLaurels.awsrek.DTO.blogDTO.CursorPageDTO;
+import FCJLaurels.awsrek.DTO.blogDTO.BlogsSinceResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,18 +35,33 @@ public interface BlogService {
     // Delete blog
     boolean deleteBlog(String id);
 
-    // Traditional offset-based pagination
-    BlogPageResponse getPaginatedBlogs(int page, int size);
+    // Traditional offset-based pagination; includeTotal=false skips totalElements/totalPages (reported as -1)
+    BlogPageResponse getPaginatedBlogs(int page, int size, boolean includeTotal);
 
-    // Cursor-based pagination for infinite scrolling (like Facebook/Amazon)
-    BlogCursorResponse getBlogsByCursor(String cursor, int size);
+    // Cursor-based pagination for infinite scrolling (like Facebook/Amazon): a BlogCursorResponse as serialized
+    // JSON (served from the feed response cache when possible), or not modified if ifNoneMatch names its ETag
+    Conditional<byte[]> getBlogsByCursorJson(String cursor, int size, String ifNoneMatch);
 
-    // Get newest blogs with BlogDisplay DTO and cursor pagination
-    CursorPageDTO<BlogDisplay> getNewestBlogsWithCursor(String cursor, int size);
+    // Newest blogs as BlogDisplay with cursor pagination: a CursorPageDTO as serialized JSON (served from the
+    // feed response cache when possible), or not modified if ifNoneMatch names its ETag
+    Conditional<byte[]> getNewestBlogsWithCursorJson(String cursor, int size, String ifNoneMatch);
 
-    // Get blog display by ID
-    Optional<BlogDisplay> getBlogDisplayById(String id);
+    // Home timeline: blogs by the user and the users they follow, newest first, with cursor pagination
+    CursorPageDTO<BlogDisplay> getHomeTimeline(String userId, String cursor, int size);
+
+    // Trending feed: blogs ranked by time-decayed likes and comments, with cursor pagination
+    CursorPageDTO<BlogDisplay> getTrendingBlogs(String cursor, int size);
+
+    // Blogs newer than a head cursor (or just their count), for "new posts" polling above a feed.
+    // IllegalArgumentException for a malformed cursor, IllegalStateException when the blogs cannot be read
+    BlogsSinceResponse getBlogsSince(String cursor, int limit, boolean countOnly);
+
+    // Streams up to limit newest blogs after the cursor as NDJSON lines or SSE events, enriched in batches
+    void streamNewestBlogs(String cursor, int limit, boolean serverSentEvents, OutputStream out) throws IOException;
+
+    // Get blog display by ID, or not modified (without rendering) if ifNoneMatch names its ETag
+    Optional<Conditional<BlogDisplay>> getBlogDisplayById(String id, String ifNoneMatch);
 
     // Get newest blogs with offset pagination using BlogDisplay
-    BlogPageResponse getNewestBlogsWithPagination(int page, int size);
+    BlogPageResponse getNewestBlogsWithPagination(int page, int size, boolean includeTotal);
 }
@@ -7,24 +7,51 @@ import FCJLaurels.awsrek.DTO.blogDTO.BlogPageResponse;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogCursorResponse;
 import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
 import FCJLaurels.awsrek.DTO.blogDTO.CursorPageDTO;
+import FCJLaurels.awsrek.DTO.blogDTO.BlogsSinceResponse;
 import FCJLaurels.awsrek.model.blog;
 import FCJLaurels.awsrek.repository.BlogRepository;
 import FCJLaurels.awsrek.service.MetricsService;
 import FCJLaurels.awsrek.service.UserGrpcClientService;
 import FCJ.user.grpc.BlogUserInfoResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.Deadline;
+import org.bson.Document;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Base64;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -38,6 +65,71 @@ public class BlogServiceImpl implements BlogService {
     @Autowired
     private UserGrpcClientService userGrpcClientService;
 
+    @Autowired
+    private AuthorSnapshotService authorSnapshotService;
+
+    @Autowired
+    private BlogCounter blogCounter;
+
+    @Autowired
+    private BlogExcerptService blogExcerptService;
+
+    @Autowired
+    private FeedHeadBuffer feedHeadBuffer;
+
+    @Autowired
+    private FeedResponseCache feedResponseCache;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private FollowGraphIndex followGraphIndex;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private NewestBlogWatermark newestBlogWatermark;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Render authors from the snapshot stored on the blog instead of calling the user service
+    @Value("${blog.author-snapshot.read-enabled:true}")
+    private boolean authorSnapshotReads;
+
+    // Latency budget for resolving all authors of one feed page; unresolved authors get a placeholder
+    @Value("${blog.feed.enrichment-budget-ms:150}")
+    private long enrichmentBudgetMs;
+
+    // Streamed feed: blogs enriched and written per batch, and the largest window one request may ask for
+    @Value("${blog.feed.stream.batch-size:50}")
+    private int streamBatchSize;
+
+    @Value("${blog.feed.stream.max-items:10000}")
+    private int streamMaxItems;
+
+    private static final byte[] NDJSON_RECORD_END = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SSE_EVENT_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+    // A mapped feed page plus whether author enrichment ran out of budget
+    private record EnrichedPage(List<BlogDisplay> content, boolean partial) {
+    }
+
+    // One page of the cursor feed; after/lookahead/authors describe what it was built from for the response cache
+    private record FeedPage(List<BlogDisplay> content, String nextCursor, boolean hasMore, boolean partial,
+                            BlogCursor after, BlogCursor lookahead, Set<UUID> authors) {
+    }
+
+    private static final FeedPage EMPTY_FEED_PAGE = new FeedPage(List.of(), null, false, false, null, null, Set.of());
+
     @Override
     public BlogDTO createBlog(BlogCreationDTO blogCreationDTO, String userId) {
         log.debug("Creating blog for userId: {}", userId);
@@ -51,11 +143,19 @@ public class BlogServiceImpl implements BlogService {
             blog newBlog = new blog();
             newBlog.setTitle(blogCreationDTO.getTitle());
             newBlog.setContent(blogCreationDTO.getContent());
+            newBlog.setExcerpt(blogExcerptService.excerptOf(blogCreationDTO.getContent()));
             newBlog.setAuthor(UUID.fromString(userId));
             newBlog.setImageUrl(blogCreationDTO.getImageUrl());
+            newBlog.setAuthorSnapshot(authorSnapshotService.snapshotFor(userId));
+            // Mongo keeps milliseconds; truncate up front so the in-memory copy sorts like the stored one
+            newBlog.setCreationDate(newBlog.getCreationDate().truncatedTo(ChronoUnit.MILLIS));
 
             blog saved = blogRepository.save(newBlog);
             log.info("Blog created successfully with id: {}", saved.getId());
+            blogCounter.increment();
+            publishNewBlog(saved);
+            feedResponseCache.invalidate(BlogCursor.of(saved));
+            timelineService.fanOut(saved);
 
             if (metricsService != null) metricsService.incrementBlogCreated();
             return maptoDTO(saved);
@@ -138,8 +238,14 @@ public class BlogServiceImpl implements BlogService {
                 blog b = existing.get();
                 b.setTitle(blogEditDTO.getTitle());
                 b.setContent(blogEditDTO.getContent());
+                b.setExcerpt(blogExcerptService.excerptOf(blogEditDTO.getContent()));
+                b.setModifiedDate(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+                b.setRevision(b.getRevision() + 1);
                 blog saved = blogRepository.save(b);
                 log.info("Blog updated successfully with id: {}", saved.getId());
+                feedHeadBuffer.applyEdit(saved);
+                feedResponseCache.invalidate(BlogCursor.of(saved));
+                timelineService.propagateEdit(saved);
                 return Optional.of(maptoDTO(saved));
             }
             log.warn("Blog not found for update: {}", id);
@@ -155,10 +261,16 @@ public class BlogServiceImpl implements BlogService {
     public boolean deleteBlog(String id) {
         log.debug("Deleting blog with id: {}", id);
         try {
-            boolean exists = blogRepository.existsById(id);
-            if (exists) {
+            // Loaded rather than existsById: its position is needed to invalidate the cached feed pages
+            Optional<blog> existing = blogRepository.findById(id);
+            if (existing.isPresent()) {
                 blogRepository.deleteById(id);
                 log.info("Blog deleted successfully: {}", id);
+                blogCounter.decrement();
+                feedHeadBuffer.remove(id);
+                feedResponseCache.invalidate(BlogCursor.of(existing.get()));
+                timelineService.removeBlog(id);
+                trendingService.remove(id);
                 if (metricsService != null) metricsService.incrementBlogDeleted();
                 return true;
             }
@@ -172,22 +284,25 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    public BlogPageResponse getPaginatedBlogs(int page, int size) {
+    public BlogPageResponse getPaginatedBlogs(int page, int size, boolean includeTotal) {
         log.debug("Fetching paginated blogs - page: {}, size: {}", page, size);
         try {
             Pageable pageable = PageRequest.of(page, size);
 
-            List<blog> blogs = blogRepository.findAllByOrderByCreationDateDesc(pageable);
-            List<BlogDisplay> content = blogs.stream().map(this::mapToBlogDisplay).collect(Collectors.toList());
-            long totalElements = blogRepository.count();
-            int totalPages = (int) Math.ceil((double) totalElements / size);
+            List<blog> blogs = blogRepository.findAllByOrderByCreationDateDescIdDesc(pageable);
+            EnrichedPage enriched = mapToBlogDisplays(blogs);
+            List<BlogDisplay> content = enriched.content();
+            // Total comes from the in-memory counter; without it, a full page is taken to mean there may be more
+            long totalElements = includeTotal ? blogCounter.get() : -1;
+            int totalPages = includeTotal ? (int) Math.ceil((double) totalElements / size) : -1;
+            boolean hasNext = includeTotal ? page < totalPages - 1 : blogs.size() == size;
 
             String nextCursor = null;
             String previousCursor = null;
 
             if (!content.isEmpty() && !blogs.isEmpty()) {
-                nextCursor = encodeCursor(blogs.get(blogs.size() - 1).getCreationDate());
-                previousCursor = encodeCursor(blogs.get(0).getCreationDate());
+                nextCursor = BlogCursor.of(blogs.get(blogs.size() - 1)).encode();
+                previousCursor = BlogCursor.of(blogs.get(0)).encode();
             }
 
             log.info("Retrieved {} blogs for page {}", content.size(), page);
@@ -198,10 +313,11 @@ public class BlogServiceImpl implements BlogService {
                     .size(size)
                     .totalElements(totalElements)
                     .totalPages(totalPages)
-                    .hasNext(page < totalPages - 1)
+                    .hasNext(hasNext)
                     .hasPrevious(page > 0)
                     .nextCursor(nextCursor)
                     .previousCursor(previousCursor)
+                    .enrichmentPartial(enriched.partial())
                     .build();
         } catch (Exception e) {
             log.error("Error fetching paginated blogs", e);
@@ -219,88 +335,186 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    public BlogCursorResponse getBlogsByCursor(String cursor, int size) {
-        log.debug("Fetching blogs by cursor - cursor: {}, size: {}", cursor, size);
-        int fetchSize = size + 1;
-        Pageable pageable = PageRequest.of(0, fetchSize);
+    public Conditional<byte[]> getBlogsByCursorJson(String cursor, int size, String ifNoneMatch) {
+        return cachedFeedJson(FeedResponseCache.Endpoint.FEED, cursor, size, ifNoneMatch, this::toCursorResponse);
+    }
 
-        List<blog> blogList;
-        if (cursor == null || cursor.isEmpty()) {
-            blogList = blogRepository.findAllByOrderByCreationDateDesc(pageable);
-        } else {
-            LocalDateTime cursorDate = decodeCursor(cursor);
-            blogList = blogRepository.findByCreationDateLessThanOrderByCreationDateDesc(cursorDate, pageable);
-        }
+    @Override
+    public Conditional<byte[]> getNewestBlogsWithCursorJson(String cursor, int size, String ifNoneMatch) {
+        return cachedFeedJson(FeedResponseCache.Endpoint.NEWEST_CURSOR, cursor, size, ifNoneMatch, this::toNewestResponse);
+    }
 
-        List<BlogDisplay> content = blogList.stream()
-                .limit(size)
-                .map(this::mapToBlogDisplay)
-                .collect(Collectors.toList());
-        boolean hasMore = blogList.size() > size;
+    @Override
+    public CursorPageDTO<BlogDisplay> getHomeTimeline(String userId, String cursor, int size) {
+        log.debug("Fetching home timeline - userId: {}, cursor: {}, size: {}", userId, cursor, size);
+        BlogCursor position = decodeCursor(cursor);
+        try {
+            // One range read on the user's materialized timeline, plus followed celebrities merged in
+            List<blog> blogList = timelineService.homePage(userId, position, size + 1);
+            List<blog> pageBlogs = blogList.subList(0, Math.min(size, blogList.size()));
+            EnrichedPage enriched = mapToBlogDisplays(pageBlogs);
+            markMutualFollows(userId, pageBlogs, enriched.content());
+            boolean hasMore = blogList.size() > size;
+            String nextCursor = hasMore && !pageBlogs.isEmpty() ? BlogCursor.of(pageBlogs.get(pageBlogs.size() - 1)).encode() : null;
 
-        String nextCursor = null;
-        if (hasMore && !content.isEmpty()) {
-            nextCursor = encodeCursor(blogList.get(size - 1).getCreationDate());
-        }
+            log.info("Retrieved {} home timeline blogs for user {}", enriched.content().size(), userId);
 
-        log.info("Retrieved {} blogs with cursor {}", content.size(), cursor);
+            return new CursorPageDTO<>(enriched.content(), nextCursor, enriched.partial());
+        } catch (Exception e) {
+            log.error("Error fetching home timeline for user {}", userId, e);
+            if (metricsService != null) metricsService.incrementApiError("HomeTimelineError");
+            return new CursorPageDTO<>(List.of(), null, false);
+        }
+    }
 
-        return BlogCursorResponse.builder()
-                .content(content)
-                .nextCursor(nextCursor)
-                .hasMore(hasMore)
-                .size(content.size())
+    @Override
+    public BlogsSinceResponse getBlogsSince(String cursor, int limit, boolean countOnly) {
+        BlogCursor head = decodeCursor(cursor);
+        if (head == null) {
+            throw new IllegalArgumentException("A head cursor is required");
+        }
+        BlogsSinceResponse unchanged = BlogsSinceResponse.builder()
+                .content(List.of())
+                .count(0)
+                .headCursor(cursor)
                 .build();
+        // The common answer, "nothing new", costs no query
+        if (!newestBlogWatermark.mayHaveNewerThan(head)) {
+            return unchanged;
+        }
+        try {
+            if (countOnly) {
+                long count = head.id() == null
+                        ? blogRepository.countByCreationDateGreaterThan(head.creationDate())
+                        : blogRepository.countNewerThan(head.creationDate(), head.id());
+                unchanged.setCount(count);
+                return unchanged;
+            }
+
+            // Oldest new blogs first, so a burst larger than the limit leaves no gap above the client's feed
+            Pageable pageable = PageRequest.of(0, limit + 1);
+            List<blog> newer = head.id() == null
+                    ? blogRepository.findByCreationDateGreaterThanOrderByCreationDateAsc(head.creationDate(), pageable)
+                    : blogRepository.findPageBefore(head.creationDate(), head.id(), pageable);
+            boolean hasMore = newer.size() > limit;
+            List<blog> pageBlogs = new ArrayList<>(newer.subList(0, Math.min(limit, newer.size())));
+            String headCursor = pageBlogs.isEmpty() ? cursor : BlogCursor.of(pageBlogs.get(pageBlogs.size() - 1)).encode();
+            Collections.reverse(pageBlogs);
+            EnrichedPage enriched = mapToBlogDisplays(pageBlogs);
+
+            log.info("Retrieved {} blogs newer than {}", enriched.content().size(), cursor);
+
+            return BlogsSinceResponse.builder()
+                    .content(enriched.content())
+                    .count(enriched.content().size())
+                    .headCursor(headCursor)
+                    .hasMore(hasMore)
+                    .enrichmentPartial(enriched.partial())
+                    .build();
+        } catch (Exception e) {
+            log.error("Error fetching blogs newer than {}", cursor, e);
+            if (metricsService != null) metricsService.incrementApiError("BlogsSinceError");
+            // Not "nothing new": a client polling through an outage must see it fail, not a quiet feed
+            throw new IllegalStateException("Failed to fetch blogs newer than " + cursor, e);
+        }
     }
 
     @Override
-    public CursorPageDTO<BlogDisplay> getNewestBlogsWithCursor(String cursor, int size) {
-        log.debug("Fetching newest blogs with cursor - cursor: {}, size: {}", cursor, size);
+    public CursorPageDTO<BlogDisplay> getTrendingBlogs(String cursor, int size) {
+        log.debug("Fetching trending blogs - cursor: {}, size: {}", cursor, size);
+        // Ranking comes from memory; only the blogs of this page are read, with the feed projection
+        TrendingService.RankedPage ranked = trendingService.page(cursor, size);
         try {
-            int fetchSize = size + 1; // Fetch one extra to check if there are more
-            Pageable pageable = PageRequest.of(0, fetchSize);
+            Query query = new BasicQuery(new Document(), Document.parse(BlogRepository.FEED_FIELDS))
+                    .addCriteria(Criteria.where("_id").in(ranked.blogIds()));
+            Map<String, blog> byId = mongoTemplate.find(query, blog.class).stream()
+                    .collect(Collectors.toMap(blog::getId, Function.identity()));
+            // Ranking order; blogs deleted since they were ranked are skipped
+            List<blog> blogList = ranked.blogIds().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            EnrichedPage enriched = mapToBlogDisplays(blogList);
 
-            List<blog> blogList;
-            if (cursor == null || cursor.isEmpty()) {
-                // First request - get newest blogs
-                blogList = blogRepository.findAllByOrderByCreationDateDesc(pageable);
-            } else {
-                // Subsequent request - get blogs older than cursor
-                LocalDateTime cursorDate = decodeCursor(cursor);
-                blogList = blogRepository.findByCreationDateLessThanOrderByCreationDateDesc(cursorDate, pageable);
-            }
+            log.info("Retrieved {} trending blogs with cursor {}", enriched.content().size(), cursor);
 
-            // Map to BlogDisplay DTOs
-            List<BlogDisplay> content = blogList.stream()
-                    .limit(size) // Only take requested size
-                    .map(this::mapToBlogDisplay)
-                    .collect(Collectors.toList());
+            return new CursorPageDTO<>(enriched.content(), ranked.nextCursor(), enriched.partial());
+        } catch (Exception e) {
+            log.error("Error fetching trending blogs", e);
+            if (metricsService != null) metricsService.incrementApiError("TrendingBlogsError");
+            return new CursorPageDTO<>(List.of(), null, false);
+        }
+    }
 
-            // Check if there are more results
-            boolean hasMore = blogList.size() > size;
+    @Override
+    public void streamNewestBlogs(String cursor, int limit, boolean serverSentEvents, OutputStream out) throws IOException {
+        BlogCursor position = decodeCursor(cursor);
+        int window = Math.max(0, Math.min(limit, streamMaxItems));
+        log.debug("Streaming newest blogs - cursor: {}, limit: {}", cursor, window);
+        if (window == 0) {
+            // A Mongo limit of 0 would mean no limit at all
+            return;
+        }
 
-            // Generate next cursor from the last item
-            String nextCursor = null;
-            if (hasMore && !content.isEmpty()) {
-                LocalDateTime lastDate = blogList.get(size - 1).getCreationDate();
-                nextCursor = encodeCursor(lastDate);
+        Query query = feedQuery(position).limit(window).cursorBatchSize(streamBatchSize);
+        List<blog> batch = new ArrayList<>(streamBatchSize);
+        int written = 0;
+        // The Mongo cursor is read lazily: only one batch of blogs is held at a time, whatever the window
+        try (Stream<blog> blogs = mongoTemplate.stream(query, blog.class)) {
+            Iterator<blog> iterator = blogs.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == streamBatchSize) {
+                    written += writeStreamBatch(batch, serverSentEvents, out);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                written += writeStreamBatch(batch, serverSentEvents, out);
             }
+        }
+        log.info("Streamed {} newest blogs with cursor {}", written, cursor);
+    }
 
-            log.info("Retrieved {} newest blogs with cursor {}", content.size(), cursor);
+    // One record per blog, flushed per batch so the client gets the first items after the first batch.
+    // SSE events carry the blog's cursor as id, so a reconnect resumes after the last event received.
+    private int writeStreamBatch(List<blog> batch, boolean serverSentEvents, OutputStream out) throws IOException {
+        List<BlogDisplay> displays = mapToBlogDisplays(batch).content();
+        for (int i = 0; i < displays.size(); i++) {
+            byte[] json = objectMapper.writeValueAsBytes(displays.get(i));
+            if (serverSentEvents) {
+                out.write(("id: " + BlogCursor.of(batch.get(i)).encode() + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+                out.write(json);
+                out.write(SSE_EVENT_END);
+            } else {
+                out.write(json);
+                out.write(NDJSON_RECORD_END);
+            }
+        }
+        out.flush();
+        return displays.size();
+    }
 
-            return new CursorPageDTO<>(content, nextCursor);
-        } catch (Exception e) {
-            log.error("Error fetching newest blogs with cursor", e);
-            if (metricsService != null) metricsService.incrementApiError("BlogCursorPaginationError");
-            return new CursorPageDTO<>(List.of(), null);
+    // Same filter, order and projection as the repository feed queries, for use with MongoTemplate.stream
+    private Query feedQuery(BlogCursor position) {
+        Query query = new BasicQuery(new Document(), Document.parse(BlogRepository.FEED_FIELDS));
+        if (position != null) {
+            query.addCriteria(position.afterCriteria("_id"));
         }
+        return query.with(Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("_id")));
     }
 
     @Override
-    public Optional<BlogDisplay> getBlogDisplayById(String id) {
+    public Optional<Conditional<BlogDisplay>> getBlogDisplayById(String id, String ifNoneMatch) {
         log.debug("Fetching blog display by id: {}", id);
         try {
-            return blogRepository.findById(id).map(this::mapToBlogDisplay);
+            return blogRepository.findById(id).map(entity -> {
+                String etag = versionETag(entity);
+                if (Conditional.matches(ifNoneMatch, etag)) {
+                    return Conditional.notModified(etag);
+                }
+                return new Conditional<>(etag, mapToBlogDisplay(entity));
+            });
         } catch (Exception e) {
             log.error("Error fetching blog display by id: {}", id, e);
             if (metricsService != null) metricsService.incrementApiError("BlogDisplayRetrievalError");
@@ -309,25 +523,26 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    public BlogPageResponse getNewestBlogsWithPagination(int page, int size) {
+    public BlogPageResponse getNewestBlogsWithPagination(int page, int size, boolean includeTotal) {
         log.debug("Fetching newest blogs with pagination - page: {}, size: {}", page, size);
         try {
             Pageable pageable = PageRequest.of(page, size);
 
-            List<blog> blogs = blogRepository.findAllByOrderByCreationDateDesc(pageable);
-            List<BlogDisplay> content = blogs.stream()
-                    .map(this::mapToBlogDisplay)
-                    .collect(Collectors.toList());
+            List<blog> blogs = blogRepository.findAllByOrderByCreationDateDescIdDesc(pageable);
+            EnrichedPage enriched = mapToBlogDisplays(blogs);
+            List<BlogDisplay> content = enriched.content();
 
-            long totalElements = blogRepository.count();
-            int totalPages = (int) Math.ceil((double) totalElements / size);
+            // Total comes from the in-memory counter; without it, a full page is taken to mean there may be more
+            long totalElements = includeTotal ? blogCounter.get() : -1;
+            int totalPages = includeTotal ? (int) Math.ceil((double) totalElements / size) : -1;
+            boolean hasNext = includeTotal ? page < totalPages - 1 : blogs.size() == size;
 
             String nextCursor = null;
             String previousCursor = null;
 
             if (!content.isEmpty() && !blogs.isEmpty()) {
-                nextCursor = encodeCursor(blogs.get(blogs.size() - 1).getCreationDate());
-                previousCursor = encodeCursor(blogs.get(0).getCreationDate());
+                nextCursor = BlogCursor.of(blogs.get(blogs.size() - 1)).encode();
+                previousCursor = BlogCursor.of(blogs.get(0)).encode();
             }
 
             log.info("Retrieved {} newest blogs for page {}", content.size(), page);
@@ -338,10 +553,11 @@ public class BlogServiceImpl implements BlogService {
                     .size(size)
                     .totalElements(totalElements)
                     .totalPages(totalPages)
-                    .hasNext(page < totalPages - 1)
+                    .hasNext(hasNext)
                     .hasPrevious(page > 0)
                     .nextCursor(nextCursor)
                     .previousCursor(previousCursor)
+                    .enrichmentPartial(enriched.partial())
                     .build();
         } catch (Exception e) {
             log.error("Error fetching newest blogs with pagination", e);
@@ -358,33 +574,206 @@ public class BlogServiceImpl implements BlogService {
         }
     }
 
-    // Helper method to encode cursor (creation date as Base64)
-    private String encodeCursor(LocalDateTime dateTime) {
-        if (dateTime == null) return null;
-        String dateTimeStr = dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        return Base64.getEncoder().encodeToString(dateTimeStr.getBytes());
+    // Keyset page in feed order (creationDate desc, id desc), served from the feed head buffer when it holds
+    // the whole page and from Mongo otherwise. Fetches size + 1 to know whether more follow.
+    private FeedPage findFeedPage(String cursor, int size) {
+        BlogCursor position = decodeCursor(cursor);
+
+        Optional<List<FeedHeadBuffer.Entry>> buffered = feedHeadBuffer.page(position, size + 1);
+        if (buffered.isPresent()) {
+            List<FeedHeadBuffer.Entry> entries = buffered.get();
+            List<FeedHeadBuffer.Entry> pageEntries = entries.subList(0, Math.min(size, entries.size()));
+            List<BlogDisplay> content = pageEntries.stream()
+                    .map(FeedHeadBuffer.Entry::display)
+                    .collect(Collectors.toList());
+            boolean hasMore = entries.size() > size;
+            String nextCursor = hasMore && !content.isEmpty() ? BlogCursor.of(content.get(size - 1)).encode() : null;
+            Set<UUID> authors = pageEntries.stream()
+                    .map(FeedHeadBuffer.Entry::author)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            return new FeedPage(content, nextCursor, hasMore, false, position,
+                    hasMore ? BlogCursor.of(entries.get(size).display()) : null, authors);
+        }
+
+        List<blog> blogList = findFeedEntities(position, PageRequest.of(0, size + 1));
+        // Map only the requested size, authors resolved in one batch
+        List<blog> pageBlogs = blogList.subList(0, Math.min(size, blogList.size()));
+        EnrichedPage enriched = mapToBlogDisplays(pageBlogs);
+        boolean hasMore = blogList.size() > size;
+        String nextCursor = hasMore && !enriched.content().isEmpty() ? BlogCursor.of(blogList.get(size - 1)).encode() : null;
+        Set<UUID> authors = pageBlogs.stream()
+                .map(blog::getAuthor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return new FeedPage(enriched.content(), nextCursor, hasMore, enriched.partial(), position,
+                hasMore ? BlogCursor.of(blogList.get(size)) : null, authors);
+    }
+
+    // Serialized feed page from the response cache, rendered and stored on a miss. Pages with unresolved
+    // authors are returned but not cached, so the placeholders are not served for the whole TTL.
+    // A cached page whose ETag the client already has is answered without touching the body.
+    // Errors other than a malformed cursor (400) are answered with an empty page, the same on every endpoint.
+    private Conditional<byte[]> cachedFeedJson(FeedResponseCache.Endpoint endpoint, String cursor, int size,
+                                               String ifNoneMatch, Function<FeedPage, Object> toResponse) {
+        try {
+            return renderFeedJson(endpoint, cursor, size, ifNoneMatch, toResponse);
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor: let the controller answer 400
+            throw e;
+        } catch (Exception e) {
+            log.error("Error fetching {} page with cursor {}", endpoint, cursor, e);
+            if (metricsService != null) metricsService.incrementApiError("BlogCursorPaginationError");
+            // No ETag: an error page must not be revalidated as if it were the feed
+            return new Conditional<>(null, serialize(toResponse.apply(EMPTY_FEED_PAGE)));
+        }
+    }
+
+    private Conditional<byte[]> renderFeedJson(FeedResponseCache.Endpoint endpoint, String cursor, int size,
+                                               String ifNoneMatch, Function<FeedPage, Object> toResponse) {
+        FeedResponseCache.CachedPage cached = feedResponseCache.get(endpoint, cursor, size);
+        if (cached != null) {
+            return Conditional.matches(ifNoneMatch, cached.etag())
+                    ? Conditional.notModified(cached.etag())
+                    : new Conditional<>(cached.etag(), cached.body());
+        }
+        long generation = feedResponseCache.generation();
+        FeedPage page = findFeedPage(cursor, size);
+        byte[] body = serialize(toResponse.apply(page));
+        String etag = bodyETag(body);
+        if (!page.partial()) {
+            feedResponseCache.put(endpoint, cursor, size, generation,
+                    new FeedResponseCache.CachedPage(body, etag, page.after(), page.lookahead(), page.authors()));
+        }
+        log.info("Rendered {} feed blogs with cursor {}", page.content().size(), cursor);
+        return Conditional.matches(ifNoneMatch, etag) ? Conditional.notModified(etag) : new Conditional<>(etag, body);
+    }
+
+    // Strong ETag of a serialized body, computed once per rendering (cached pages keep theirs)
+    private static String bodyETag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    // Strong ETag of a blog's display from its version fields alone, so a match skips rendering. Only for blogs
+    // rendered from their author snapshot: with a live author lookup the display can change without the blog.
+    private String versionETag(blog entity) {
+        if (!usesAuthorSnapshot(entity)) {
+            return null;
+        }
+        LocalDateTime modified = entity.getModifiedDate() != null ? entity.getModifiedDate() : entity.getCreationDate();
+        long modifiedMillis = modified != null ? modified.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        return "\"" + entity.getRevision() + "-" + Long.toHexString(modifiedMillis)
+                + "-" + entity.getAuthorSnapshot().getVersion() + "\"";
     }
 
-    // Helper method to decode cursor with better error handling
-    private LocalDateTime decodeCursor(String cursor) {
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize feed page", e);
+        }
+    }
+
+    private BlogCursorResponse toCursorResponse(FeedPage page) {
+        return BlogCursorResponse.builder()
+                .content(page.content())
+                .nextCursor(page.nextCursor())
+                .hasMore(page.hasMore())
+                .size(page.content().size())
+                .enrichmentPartial(page.partial())
+                .build();
+    }
+
+    private CursorPageDTO<BlogDisplay> toNewestResponse(FeedPage page) {
+        return new CursorPageDTO<>(page.content(), page.nextCursor(), page.partial());
+    }
+
+    // Legacy timestamp-only cursors fall back to "older than the timestamp"
+    private List<blog> findFeedEntities(BlogCursor position, Pageable pageable) {
+        if (position == null) {
+            return blogRepository.findAllByOrderByCreationDateDescIdDesc(pageable);
+        }
+        if (position.id() == null) {
+            return blogRepository.findByCreationDateLessThanOrderByCreationDateDesc(position.creationDate(), pageable);
+        }
+        return blogRepository.findPageAfter(position.creationDate(), position.id(), pageable);
+    }
+
+    // Null for the first page
+    private BlogCursor decodeCursor(String cursor) {
         if (cursor == null || cursor.isEmpty()) {
-            log.warn("Cursor is null or empty, returning null");
             return null;
         }
+        try {
+            return BlogCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejecting malformed cursor: {}", cursor);
+            if (metricsService != null) metricsService.incrementApiError("CursorDecodingError");
+            throw e;
+        }
+    }
 
+    /**
+     * Reloads the feed head buffer from Mongo, which also brings in writes made by other instances.
+     * A load that raced with a local write or could not resolve every author is discarded.
+     */
+    @Scheduled(fixedDelayString = "${blog.feed.head-buffer.reload-interval-ms:30000}",
+            initialDelayString = "${blog.feed.head-buffer.initial-delay-ms:5000}")
+    public void reloadFeedHeadBuffer() {
+        if (!feedHeadBuffer.isEnabled()) {
+            return;
+        }
         try {
-            String decodedStr = new String(Base64.getDecoder().decode(cursor));
-            LocalDateTime dateTime = LocalDateTime.parse(decodedStr, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            log.debug("Decoded cursor: {}", dateTime);
-            return dateTime;
+            for (int attempt = 0; attempt < 3; attempt++) {
+                long generation = feedHeadBuffer.generation();
+                int capacity = feedHeadBuffer.capacity();
+                List<blog> newest = blogRepository.findAllByOrderByCreationDateDescIdDesc(PageRequest.of(0, capacity));
+                EnrichedPage enriched = mapToBlogDisplays(newest);
+                if (enriched.partial()) {
+                    log.debug("Feed head buffer reload skipped, not every author could be resolved");
+                    return;
+                }
+                List<FeedHeadBuffer.Entry> entries = new ArrayList<>(newest.size());
+                for (int i = 0; i < newest.size(); i++) {
+                    entries.add(new FeedHeadBuffer.Entry(enriched.content().get(i), newest.get(i).getAuthor()));
+                }
+                if (feedHeadBuffer.install(entries, newest.size() < capacity, generation)) {
+                    return;
+                }
+            }
+            log.debug("Feed head buffer reload kept losing against concurrent writes, retrying next run");
         } catch (Exception e) {
-            log.error("Error decoding cursor: {}", cursor, e);
-            if (metricsService != null) metricsService.incrementApiError("CursorDecodingError");
-            // Return null instead of LocalDateTime.now() to avoid incorrect pagination
-            return null;
+            log.warn("⚠️  Feed head buffer reload failed: {}", e.getMessage());
         }
     }
 
+    // Renders a new blog once, for the head buffer and for live subscribers. If its author can't be resolved
+    // now the buffer is dropped rather than holding a placeholder, and the next reload rebuilds it.
+    private void publishNewBlog(blog saved) {
+        EnrichedPage rendered = mapToBlogDisplays(List.of(saved));
+        BlogDisplay display = rendered.content().get(0);
+        if (rendered.partial()) {
+            feedHeadBuffer.invalidate();
+        } else {
+            feedHeadBuffer.insert(new FeedHeadBuffer.Entry(display, saved.getAuthor()));
+        }
+        eventPublisher.publishEvent(new BlogCreatedEvent(display));
+    }
+
+    // Change seen on the Mongo change stream, usually written by another instance. Local writes come back
+    // here as well; the head buffer, cache and broadcaster all tolerate applying them twice.
+    @EventListener
+    public void onRemoteBlogChanged(RemoteBlogChangedEvent event) {
+        if (event.isDelete()) {
+            // Position unknown, so cached pages holding it simply expire
+            feedHeadBuffer.remove(event.id());
+            trendingService.remove(event.id());
+            return;
+        }
+        publishNewBlog(event.inserted());
+        feedResponseCache.invalidate(BlogCursor.of(event.inserted()));
+    }
+
     private BlogDTO maptoDTO(blog entity) {
         if (entity == null) return null;
         return BlogDTO.builder()
@@ -402,8 +791,11 @@ public class BlogServiceImpl implements BlogService {
     private BlogDisplay mapToBlogDisplay(blog entity) {
         if (entity == null) return null;
 
-        String authorName = null;
-        String authorAvatar = null;
+        if (usesAuthorSnapshot(entity)) {
+            return toBlogDisplay(entity, null, true);
+        }
+
+        BlogUserInfoResponse userInfo = null;
 
         // Fetch author information using gRPC (BLOCKING - synchronous)
         // Calls the blogUserInfo() method from UserInfoService in user service
@@ -413,23 +805,10 @@ public class BlogServiceImpl implements BlogService {
                 // The user service expects UUID as a string (e.g., "550e8400-e29b-41d4-a716-446655440000")
                 String authorIdString = entity.getAuthor().toString();
 
-                log.debug("🔄 Converting UUID author to string: {} (type: {})",
-                    authorIdString, entity.getAuthor().getClass().getSimpleName());
-
-                // Call the gRPC service via UserGrpcClientService
-                // This internally calls blogUserInfo(BlogUserInfoRequest) with the UUID string
-                log.info("📞 Calling gRPC blogUserInfo() to fetch user info for author UUID: {}", authorIdString);
-                BlogUserInfoResponse userInfo = userGrpcClientService.getUserInfo(authorIdString);
-
-                if (userInfo != null) {
-                    // Extract only the required fields from BlogUserInfoResponse
-                    // according to the proto contract: string name=1; string avatar=2;
-                    authorName = userInfo.getName();
-                    authorAvatar = userInfo.getAvatar();
+                log.debug("📞 Calling gRPC blogUserInfo() to fetch user info for author UUID: {}", authorIdString);
+                userInfo = userGrpcClientService.getUserInfo(authorIdString);
 
-                    log.info("✅ gRPC blogUserInfo() fetched successfully - name: '{}', avatar: '{}'",
-                        authorName, authorAvatar);
-                } else {
+                if (userInfo == null) {
                     log.warn("⚠️  gRPC blogUserInfo() returned null response for author UUID: {}", authorIdString);
                 }
             } catch (Exception e) {
@@ -441,13 +820,91 @@ public class BlogServiceImpl implements BlogService {
             }
         }
 
+        return toBlogDisplay(entity, userInfo, true);
+    }
+
+    // Batch mapping for feed pages: collects the distinct authors of the page and
+    // resolves them concurrently (batchBlogUserInfo() chunks on the gRPC future stub) instead of one RPC per blog.
+    // All lookups share one deadline of enrichmentBudgetMs; authors not resolved by then render as "Unknown User".
+    // Blogs carrying an author snapshot need no lookup at all. Feed items carry the excerpt, not the content.
+    private EnrichedPage mapToBlogDisplays(List<blog> entities) {
+        if (entities == null || entities.isEmpty()) return new EnrichedPage(List.of(), false);
+
+        Set<String> authorIds = entities.stream()
+                .filter(entity -> !usesAuthorSnapshot(entity))
+                .map(blog::getAuthor)
+                .filter(Objects::nonNull)
+                .map(UUID::toString)
+                .collect(Collectors.toSet());
+
+        Map<String, BlogUserInfoResponse> userInfos = Map.of();
+        boolean partial = false;
+        if (!authorIds.isEmpty()) {
+            try {
+                log.debug("📞 Calling gRPC batchBlogUserInfo() for {} distinct authors of {} blogs",
+                    authorIds.size(), entities.size());
+                UserGrpcClientService.UserInfoLookup lookup = userGrpcClientService.getUserInfosWithin(
+                    authorIds, Deadline.after(enrichmentBudgetMs, TimeUnit.MILLISECONDS));
+                userInfos = lookup.users();
+                partial = lookup.partial();
+            } catch (Exception e) {
+                partial = true;
+                log.error("❌ Error calling gRPC batchBlogUserInfo() for {} authors", authorIds.size(), e);
+                if (metricsService != null) {
+                    metricsService.incrementApiError("BlogUserInfoFetchError");
+                }
+            }
+        }
+
+        Map<String, BlogUserInfoResponse> resolved = userInfos;
+        List<BlogDisplay> content = entities.stream()
+                .map(entity -> toBlogDisplay(entity,
+                        entity.getAuthor() != null ? resolved.get(entity.getAuthor().toString()) : null, false))
+                .collect(Collectors.toList());
+        return new EnrichedPage(content, partial);
+    }
+
+    // Mutual-follow badge per blog, answered from the in-memory follow graph; displays match blogs by position
+    private void markMutualFollows(String viewerId, List<blog> blogs, List<BlogDisplay> displays) {
+        UUID viewer;
+        try {
+            viewer = UUID.fromString(viewerId);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        if (!followGraphIndex.isReady()) {
+            return;
+        }
+        for (int i = 0; i < blogs.size(); i++) {
+            UUID author = blogs.get(i).getAuthor();
+            if (author != null && !author.equals(viewer)) {
+                displays.get(i).setMutualFollow(followGraphIndex.isMutual(viewer, author));
+            }
+        }
+    }
+
+    private boolean usesAuthorSnapshot(blog entity) {
+        return authorSnapshotReads && entity.getAuthorSnapshot() != null;
+    }
+
+    private BlogDisplay toBlogDisplay(blog entity, BlogUserInfoResponse userInfo, boolean withContent) {
+        // Extract only the required fields from BlogUserInfoResponse
+        // according to the proto contract: string name=1; string avatar=2;
+        String authorName = userInfo != null ? userInfo.getName() : null;
+        String authorAvatar = userInfo != null ? userInfo.getAvatar() : null;
+        if (usesAuthorSnapshot(entity)) {
+            authorName = entity.getAuthorSnapshot().getName();
+            authorAvatar = entity.getAuthorSnapshot().getAvatar();
+        }
+
         return BlogDisplay.builder()
                 .id(entity.getId())
                 .authorName(authorName != null && !authorName.isEmpty() ? authorName : "Unknown User")
                 .authorAvatar(authorAvatar)
                 .title(entity.getTitle())
                 .imageURL(entity.getImageUrl())
-                .content(entity.getContent())
+                .content(withContent ? entity.getContent() : null)
+                .excerpt(entity.getExcerpt())
                 .creationDate(entity.getCreationDate())
                 .build();
     }
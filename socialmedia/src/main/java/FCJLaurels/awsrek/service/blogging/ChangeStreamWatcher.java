@@ -0,0 +1,183 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Watch loop shared by the change stream watchers: follows inserts and deletes on one collection and hands
+ * each to {@link #onChange}. Requires a replica set, hence every watcher is off by default. Reconnects with
+ * exponential backoff and resumes after the last change received.
+ *
+ * Metrics: {@code <metric>} (1 while the stream is open)
+ */
+@Slf4j
+abstract class ChangeStreamWatcher {
+
+    private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    protected final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Class<?> entity;
+    // "Blog", "Follow": used in thread names and logs
+    private final String label;
+    private final String metric;
+
+    @Value("${blog.live.change-stream.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${blog.live.change-stream.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    private volatile boolean running = false;
+    private volatile boolean connected = false;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> activeCursor;
+    private BsonDocument resumeToken;
+    private Thread watcher;
+
+    protected ChangeStreamWatcher(MongoTemplate mongoTemplate, MeterRegistry meterRegistry, Class<?> entity,
+                                  String label, String metric) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.entity = entity;
+        this.label = label;
+        this.metric = metric;
+    }
+
+    protected abstract boolean isEnabled();
+
+    /**
+     * One insert ({@code inserted} is the full document) or delete ({@code inserted} is null) of the document
+     * with this string id.
+     */
+    protected abstract void onChange(String id, Document inserted);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled() || running) {
+            return;
+        }
+        running = true;
+        Gauge.builder(metric, this, stream -> stream.connected ? 1 : 0)
+                .description("1 while the " + label.toLowerCase() + " change stream is open")
+                .register(meterRegistry);
+        watcher = new Thread(this::watch, label.toLowerCase() + "-change-stream");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = activeCursor;
+        if (cursor != null) {
+            // Unblocks the watcher thread waiting in next()
+            cursor.close();
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    private void watch() {
+        long backoffMs = initialBackoffMs;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open()) {
+                activeCursor = cursor;
+                connected = true;
+                backoffMs = initialBackoffMs;
+                log.info("📡 {} change stream open{}", label, resumeToken != null ? " (resuming)" : "");
+                while (running) {
+                    if (!apply(cursor.next())) {
+                        // Invalidated: open a new stream from now
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                if (isResumeImpossible(e)) {
+                    // The oplog no longer holds the token's position: resuming would fail forever
+                    log.warn("📡 {} change stream cannot resume ({}), restarting from now; changes in between are missed",
+                            label, e.getMessage());
+                    resumeToken = null;
+                }
+                long jittered = ThreadLocalRandom.current().nextLong(backoffMs / 2, backoffMs + 1);
+                log.warn("📡 {} change stream {} ({}), retrying in {}ms",
+                        label, connected ? "lost" : "unavailable", e.getMessage(), jittered);
+                backoffMs = Math.min(maxBackoffMs, backoffMs * 2);
+                try {
+                    Thread.sleep(jittered);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } finally {
+                activeCursor = null;
+                connected = false;
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open() {
+        var stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entity))
+                .watch(List.of(Aggregates.match(Filters.in("operationType",
+                        OperationType.INSERT.getValue(), OperationType.DELETE.getValue(),
+                        OperationType.INVALIDATE.getValue()))));
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    // False once the stream was invalidated (collection dropped or renamed); it then closes and cannot be resumed
+    private boolean apply(ChangeStreamDocument<Document> change) {
+        if (change.getOperationType() == OperationType.INVALIDATE) {
+            log.warn("📡 {} change stream invalidated, restarting from now", label);
+            resumeToken = null;
+            return false;
+        }
+        resumeToken = change.getResumeToken();
+        BsonDocument key = change.getDocumentKey();
+        if (key == null || !key.isString("_id")) {
+            return true;
+        }
+        String id = key.getString("_id").getValue();
+        try {
+            if (change.getOperationType() == OperationType.INSERT && change.getFullDocument() != null) {
+                onChange(id, change.getFullDocument());
+            } else if (change.getOperationType() == OperationType.DELETE) {
+                onChange(id, null);
+            }
+        } catch (Exception e) {
+            // A listener failing must not tear down the stream
+            log.error("❌ Failed to apply {} change {} for {}", label.toLowerCase(), change.getOperationType(), id, e);
+        }
+        return true;
+    }
+
+    // ChangeStreamHistoryLost (286) and ChangeStreamFatalError (280): the resume token is no longer usable
+    private static boolean isResumeImpossible(Exception e) {
+        return e instanceof MongoCommandException commandError
+                && (commandError.getErrorCode() == CHANGE_STREAM_HISTORY_LOST
+                || commandError.getErrorCode() == CHANGE_STREAM_FATAL_ERROR);
+    }
+}
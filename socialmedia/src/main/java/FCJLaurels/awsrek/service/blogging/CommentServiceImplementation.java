@@ -6,6 +6,7 @@ import FCJLaurels.awsrek.DTO.commentDTO.CommentEditDTO;
 import FCJLaurels.awsrek.model.comment;
 import FCJLaurels.awsrek.repository.CommentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,6 +19,9 @@ public class CommentServiceImplementation implements CommentService {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public CommentDTO createComment(CommentCreationDTO commentCreationDTO) {
         comment newComment = comment.builder()
@@ -27,6 +31,7 @@ public class CommentServiceImplementation implements CommentService {
                 .build();
 
         comment saved = commentRepository.save(newComment);
+        publishChange(saved, true);
         return mapToDTO(saved);
     }
 
@@ -64,9 +69,11 @@ public class CommentServiceImplementation implements CommentService {
 
     @Override
     public boolean deleteComment(String id) {
-        boolean exists = commentRepository.existsById(id);
-        if (exists) {
+        // Loaded rather than existsById: trending needs the blog and time of the comment
+        Optional<comment> existing = commentRepository.findById(id);
+        if (existing.isPresent()) {
             commentRepository.deleteById(id);
+            publishChange(existing.get(), false);
             return true;
         }
         return false;
@@ -96,6 +103,11 @@ public class CommentServiceImplementation implements CommentService {
                 .build();
     }
 
+    private void publishChange(comment entity, boolean added) {
+        eventPublisher.publishEvent(new EngagementChangedEvent(entity.getBlogId(), EngagementChangedEvent.Kind.COMMENT,
+                added, entity.getCreationDate()));
+    }
+
     private CommentDTO mapToDTO(comment entity) {
         if (entity == null) return null;
         return CommentDTO.builder()
@@ -0,0 +1,40 @@
+package FCJLaurels.awsrek.service.blogging;
+
+/**
+ * A response body for a conditional GET with its strong ETag (quoted, null if the body has none).
+ * {@code body} is null when the client's {@code If-None-Match} already names the current version.
+ */
+public record Conditional<T>(String etag, T body) {
+
+    public static <T> Conditional<T> notModified(String etag) {
+        return new Conditional<>(etag, null);
+    }
+
+    public boolean isNotModified() {
+        return body == null;
+    }
+
+    /**
+     * True if an {@code If-None-Match} header value names {@code etag}: {@code *}, or one entry of the list.
+     * Uses the weak comparison RFC 9110 requires for If-None-Match, so a {@code W/} prefix added by a proxy
+     * still matches.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published after a like or comment on a blog is stored ({@code added} true) or removed on this instance.
+ * {@code at} is when the like or comment was originally made.
+ */
+public record EngagementChangedEvent(String blogId, Kind kind, boolean added, LocalDateTime at) {
+
+    public enum Kind {
+        LIKE, COMMENT
+    }
+}
@@ -0,0 +1,263 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJ.user.grpc.BlogUserInfoResponse;
+import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.service.UserInfoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The newest {@code size} blogs of the feed, already rendered, so the first pages of the cursor feed are
+ * served without a Mongo query or author lookups. The buffer is an immutable array in feed order
+ * (creationDate desc, id desc) that writers replace as a whole: readers never lock, writers are serialized.
+ *
+ * Writes made through this instance are applied immediately; writes made by other instances show up at
+ * the next reload. A page is only served from here if the buffer holds all of it, otherwise the caller
+ * goes to Mongo.
+ *
+ * Metrics: {@code blog.feed.head.buffer.requests{result}}, {@code blog.feed.head.buffer.size}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedHeadBuffer {
+
+    /**
+     * A rendered feed item and the author it was rendered for.
+     */
+    public record Entry(BlogDisplay display, UUID author) {
+    }
+
+    // exhaustive: the buffer holds every blog in the collection, so running past its tail means the feed ended
+    private record Contents(Entry[] entries, boolean exhaustive) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.feed.head-buffer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.feed.head-buffer.size:200}")
+    private int capacity;
+
+    // Null until the first load and after an invalidation
+    private volatile Contents contents;
+    // Bumped by every change, so a load that raced with a write is not installed over it
+    private long generation;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = Counter.builder("blog.feed.head.buffer.requests")
+                .description("Cursor feed pages looked up in the in-memory head buffer")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("blog.feed.head.buffer.requests")
+                .description("Cursor feed pages looked up in the in-memory head buffer")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("blog.feed.head.buffer.size", this, buffer -> {
+                    Contents current = buffer.contents;
+                    return current != null ? current.entries().length : 0;
+                })
+                .description("Blogs held in the in-memory feed head buffer")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Up to {@code limit} entries strictly after {@code after} (from the newest if null).
+     *
+     * @return empty if the buffer is not loaded or does not hold the whole page
+     */
+    public Optional<List<Entry>> page(BlogCursor after, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Contents current = contents;
+        if (current == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        Entry[] entries = current.entries();
+        int from = after == null ? 0 : firstAfter(entries, after);
+        int to = from + limit;
+        if (to > entries.length && !current.exhaustive()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(List.of(Arrays.copyOfRange(entries, from, Math.min(to, entries.length))));
+    }
+
+    /**
+     * Read before loading; {@link #install} only succeeds if nothing changed in between.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Replaces the contents with a fresh load of the newest blogs.
+     *
+     * @param newestFirst entries in feed order, at most {@link #capacity()} of them
+     * @param exhaustive  true if the collection holds no blogs beyond these
+     * @return false if a write happened since {@code expectedGeneration} was read, the load is then discarded
+     */
+    public synchronized boolean install(List<Entry> newestFirst, boolean exhaustive, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return false;
+        }
+        contents = new Contents(newestFirst.toArray(Entry[]::new), exhaustive);
+        return true;
+    }
+
+    // A new blog; creationDate must already have the stored (millisecond) precision to sort like Mongo does
+    public synchronized void insert(Entry entry) {
+        generation++;
+        Contents current = contents;
+        if (current == null) {
+            return;
+        }
+        String id = entry.display().getId();
+        // A reload that ran after the save may already hold it
+        Entry[] entries = Arrays.stream(current.entries())
+                .filter(held -> !held.display().getId().equals(id))
+                .toArray(Entry[]::new);
+        int at = firstAfter(entries, BlogCursor.of(entry.display()));
+        if (at == entries.length && !current.exhaustive() && entries.length > 0) {
+            // Older than everything held and blogs in between may be missing: not part of the head
+            return;
+        }
+        List<Entry> next = new ArrayList<>(Arrays.asList(entries));
+        next.add(at, entry);
+        boolean exhaustive = current.exhaustive();
+        if (next.size() > capacity) {
+            next.remove(next.size() - 1);
+            exhaustive = false;
+        }
+        contents = new Contents(next.toArray(Entry[]::new), exhaustive);
+    }
+
+    // Edited title/excerpt; the rendered author is kept
+    public synchronized void applyEdit(blog edited) {
+        generation++;
+        Contents current = contents;
+        if (current == null) {
+            return;
+        }
+        Entry[] entries = current.entries().clone();
+        for (int i = 0; i < entries.length; i++) {
+            BlogDisplay display = entries[i].display();
+            if (display.getId().equals(edited.getId())) {
+                entries[i] = new Entry(BlogDisplay.builder()
+                        .id(display.getId())
+                        .authorName(display.getAuthorName())
+                        .authorAvatar(display.getAuthorAvatar())
+                        .title(edited.getTitle())
+                        .imageURL(edited.getImageUrl())
+                        .excerpt(edited.getExcerpt())
+                        .creationDate(display.getCreationDate())
+                        .build(), entries[i].author());
+                contents = new Contents(entries, current.exhaustive());
+                return;
+            }
+        }
+    }
+
+    public synchronized void remove(String id) {
+        generation++;
+        Contents current = contents;
+        if (current == null) {
+            return;
+        }
+        Entry[] remaining = Arrays.stream(current.entries())
+                .filter(entry -> !entry.display().getId().equals(id))
+                .toArray(Entry[]::new);
+        if (remaining.length != current.entries().length) {
+            contents = new Contents(remaining, current.exhaustive());
+        }
+    }
+
+    // Drops the contents; requests go to Mongo until the next successful load
+    public synchronized void invalidate() {
+        generation++;
+        if (contents != null) {
+            log.debug("Feed head buffer invalidated");
+        }
+        contents = null;
+    }
+
+    // Pushed profile change: re-render the author on the buffered blogs, like the snapshot on the documents
+    @EventListener
+    public synchronized void onUserInfoChanged(UserInfoChangedEvent event) {
+        Contents current = contents;
+        if (current == null) {
+            return;
+        }
+        BlogUserInfoResponse info = event.info();
+        String name = info != null && !info.getName().isEmpty() ? info.getName() : "Unknown User";
+        String avatar = info != null ? info.getAvatar() : null;
+        boolean changed = false;
+        Entry[] entries = current.entries().clone();
+        for (int i = 0; i < entries.length; i++) {
+            UUID author = entries[i].author();
+            if (author == null || !author.toString().equals(event.userId())) {
+                continue;
+            }
+            BlogDisplay display = entries[i].display();
+            entries[i] = new Entry(BlogDisplay.builder()
+                    .id(display.getId())
+                    .authorName(name)
+                    .authorAvatar(avatar)
+                    .title(display.getTitle())
+                    .imageURL(display.getImageURL())
+                    .excerpt(display.getExcerpt())
+                    .creationDate(display.getCreationDate())
+                    .build(), author);
+            changed = true;
+        }
+        if (changed) {
+            generation++;
+            contents = new Contents(entries, current.exhaustive());
+        }
+    }
+
+    // Index of the first entry that comes strictly after the cursor in feed order (entries.length if none)
+    private static int firstAfter(Entry[] entries, BlogCursor cursor) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (BlogCursor.of(entries[mid].display()).isAfter(cursor)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,218 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.service.UserInfoChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized JSON bodies of cursor feed pages, keyed by endpoint, cursor and size, so repeated feed hits
+ * skip both the query and Jackson. Bounded by the total size of the cached bodies in bytes.
+ *
+ * Pages are keyset ranges, so a write only affects the pages whose range contains the written blog:
+ * everything strictly after the page's cursor down to the look-ahead item that decided hasMore.
+ * {@link #invalidate(BlogCursor)} drops exactly those, finding them through an index of pages by cursor. Writes made by other instances are not seen,
+ * entries expire after {@code ttl-seconds} to bound that staleness.
+ *
+ * Metrics: Caffeine stats as {@code cache.*{cache="blog-feed-response"}}, {@code blog.feed.response.cache.bytes}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedResponseCache {
+
+    public static final String CACHE_NAME = "blog-feed-response";
+
+    // Rough per-entry bookkeeping (key, cursors, map node) on top of the body
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    // Feed order, newest first; a legacy cursor (no id) stands after every blog of its timestamp
+    private static final Comparator<BlogCursor> FEED_ORDER = Comparator
+            .comparing(BlogCursor::creationDate, Comparator.reverseOrder())
+            .thenComparing(BlogCursor::id, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    public enum Endpoint {
+        FEED, NEWEST_CURSOR
+    }
+
+    private record Key(Endpoint endpoint, String cursor, int size) {
+    }
+
+    /**
+     * A serialized page and the feed range it was built from.
+     *
+     * @param etag      strong ETag of the body
+     * @param after     cursor the page continues from, null for the first page
+     * @param lookahead first blog after the page, null if the page reached the end of the feed
+     * @param authors   authors rendered on the page
+     */
+    public record CachedPage(byte[] body, String etag, BlogCursor after, BlogCursor lookahead, Set<UUID> authors) {
+
+        // Strictly after the page's cursor, up to and including the look-ahead blog
+        boolean covers(BlogCursor position) {
+            return (after == null || position.isAfter(after))
+                    && (lookahead == null || !position.isAfter(lookahead));
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.feed.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.feed.response-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${blog.feed.response-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private Cache<Key, CachedPage> cache;
+    // Bumped by every invalidation, so a page rendered before a write is not kept after it
+    private final AtomicLong generation = new AtomicLong();
+
+    // Cached pages by the cursor they continue from, newest first (first pages apart). A write only has to
+    // look at pages starting before it; for a new blog, the newest position, that is just the first pages.
+    private final Set<Key> firstPages = ConcurrentHashMap.newKeySet();
+    private final ConcurrentSkipListMap<BlogCursor, Set<Key>> pagesByAfter = new ConcurrentSkipListMap<>(FEED_ORDER);
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, CachedPage page) -> page.body().length + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .removalListener((Key key, CachedPage page, RemovalCause cause) -> {
+                    if (key != null && page != null) {
+                        unindex(key, page);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("blog.feed.response.cache.bytes", this, FeedResponseCache::weightedBytes)
+                .description("Bytes held by the serialized feed page cache, bodies plus bookkeeping")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("🗄️  Feed response cache initialized - enabled: {}, maxBytes: {}, ttl: {}s", enabled, maxBytes, ttlSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the cached page, or null on a miss
+     */
+    public CachedPage get(Endpoint endpoint, String cursor, int size) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(new Key(endpoint, cursor, size));
+    }
+
+    /**
+     * Read before rendering a page; {@link #put} drops the page if a write happened in between.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(Endpoint endpoint, String cursor, int size, long expectedGeneration, CachedPage page) {
+        if (!enabled || generation.get() != expectedGeneration) {
+            return;
+        }
+        Key key = new Key(endpoint, cursor, size);
+        cache.put(key, page);
+        index(key, page);
+        // An invalidation that started meanwhile may have scanned before the page was indexed
+        if (generation.get() != expectedGeneration) {
+            cache.asMap().remove(key, page);
+        }
+    }
+
+    /**
+     * A blog at {@code position} was created, edited or deleted: drops the pages whose range contains it.
+     * Only pages continuing from a newer cursor can, so the rest of the cache is not looked at.
+     */
+    public void invalidate(BlogCursor position) {
+        generation.incrementAndGet();
+        invalidateCovering(firstPages, position);
+        pagesByAfter.headMap(position, false).values().forEach(keys -> invalidateCovering(keys, position));
+    }
+
+    private void invalidateCovering(Set<Key> keys, BlogCursor position) {
+        for (Key key : keys) {
+            CachedPage page = cache.policy().getIfPresentQuietly(key);
+            if (page != null && page.covers(position)) {
+                cache.asMap().remove(key, page);
+            }
+        }
+    }
+
+    // Pushed profile change: drop the pages that rendered this author
+    @EventListener
+    public void onUserInfoChanged(UserInfoChangedEvent event) {
+        UUID author;
+        try {
+            author = UUID.fromString(event.userId());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(page -> page.authors().contains(author));
+    }
+
+    private void index(Key key, CachedPage page) {
+        if (page.after() == null) {
+            firstPages.add(key);
+            return;
+        }
+        synchronized (pagesByAfter) {
+            pagesByAfter.computeIfAbsent(page.after(), after -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    // Runs after the entry left the cache; a put of the same key racing with it indexes the key again,
+    // so the index never misses a cached page (it may briefly hold keys that are gone)
+    private void unindex(Key key, CachedPage page) {
+        if (page.after() == null) {
+            firstPages.remove(key);
+        } else {
+            synchronized (pagesByAfter) {
+                Set<Key> keys = pagesByAfter.get(page.after());
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    pagesByAfter.remove(page.after());
+                }
+            }
+        }
+        CachedPage current = cache.policy().getIfPresentQuietly(key);
+        if (current != null) {
+            index(key, current);
+        }
+    }
+
+    private double weightedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+}
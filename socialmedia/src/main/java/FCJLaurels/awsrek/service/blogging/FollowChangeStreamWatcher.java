@@ -0,0 +1,47 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.follow;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Follows follow-edge inserts and deletes through a Mongo change stream and applies them to the
+ * {@link FollowGraphIndex}, so in multi-node setups the graph sees other instances' follows within moments
+ * instead of at the next rebuild. This instance's own changes come back too; applying them twice is a no-op.
+ * Requires a replica set, hence off by default.
+ *
+ * Metrics: {@code blog.follow.change.stream.connected} (1 while the stream is open)
+ */
+@Component
+public class FollowChangeStreamWatcher extends ChangeStreamWatcher {
+
+    private final FollowGraphIndex followGraphIndex;
+
+    @Value("${blog.follow-graph.change-stream.enabled:false}")
+    private boolean enabled;
+
+    public FollowChangeStreamWatcher(MongoTemplate mongoTemplate, FollowGraphIndex followGraphIndex,
+                                     MeterRegistry meterRegistry) {
+        super(mongoTemplate, meterRegistry, follow.class, "Follow", "blog.follow.change.stream.connected");
+        this.followGraphIndex = followGraphIndex;
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    // Edge ids are follower:followee (see follow.idOf), so a delete carries both ends in its key
+    @Override
+    protected void onChange(String id, Document inserted) {
+        int separator = id.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        followGraphIndex.onFollowChanged(new FollowChangedEvent(
+                id.substring(0, separator), id.substring(separator + 1), inserted != null));
+    }
+}
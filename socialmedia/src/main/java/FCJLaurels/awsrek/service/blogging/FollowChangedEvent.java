@@ -0,0 +1,7 @@
+package FCJLaurels.awsrek.service.blogging;
+
+/**
+ * Published after a follow edge is stored ({@code followed} true) or removed on this instance.
+ */
+public record FollowChangedEvent(String followerId, String followeeId, boolean followed) {
+}
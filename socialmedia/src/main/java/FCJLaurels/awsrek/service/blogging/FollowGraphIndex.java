@@ -0,0 +1,587 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.follow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * The whole follow graph in memory, so follow checks, counts and intersections don't need a query.
+ * Users get dense int ids; each user's followees and followers are sorted {@code int[]} lists (binary search
+ * for membership, merge or galloping walk for intersections). The resident lists are deliberately left
+ * uncompressed: every follow event inserts or deletes one id in place and every check is a binary search,
+ * which delta or varint coding would turn into a decode and re-encode of the whole list. Compression is
+ * applied where it pays, in the snapshot file.
+ *
+ * Built from the follow collection once the application is ready and kept current by {@link FollowChangedEvent}s
+ * from this instance and, with the follow change stream enabled, from other instances (FollowChangeStreamWatcher);
+ * a periodic full rebuild repairs anything missed. The graph is snapshotted to
+ * {@code snapshot-path} (delta + varint encoded, read back memory-mapped) so a restart serves immediately from
+ * the snapshot while the rebuild runs. Every follow read (checks, counts, mutual, in common, timeline celebrity
+ * merge) is answered here once {@link #isReady()}, and from Mongo before that.
+ *
+ * Metrics: {@code blog.follow.graph.users}, {@code blog.follow.graph.edges}, {@code blog.follow.graph.rebuild}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowGraphIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x46474958;   // "FGIX"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.follow-graph.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.follow-graph.snapshot-path:data/follow-graph.bin}")
+    private String snapshotPath;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Guarded by lock
+    private Graph graph = new Graph();
+    private volatile boolean dirty = false;
+    // Changes applied while a rebuild streams the follow collection, replayed onto the rebuilt graph
+    private List<FollowChangedEvent> changedDuringRebuild;
+
+    private volatile boolean ready = false;
+    private Timer rebuildTimer;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("blog.follow.graph.users", this, read(g -> g.userCount))
+                .description("Users in the in-memory follow graph")
+                .register(meterRegistry);
+        Gauge.builder("blog.follow.graph.edges", this, read(g -> g.edges))
+                .description("Follow edges in the in-memory follow graph")
+                .register(meterRegistry);
+        rebuildTimer = Timer.builder("blog.follow.graph.rebuild")
+                .description("Time to rebuild the follow graph from the follow collection")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            loadSnapshot();
+            rebuild();
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        snapshotIfDirty();
+    }
+
+    /**
+     * False until the graph was loaded from a snapshot or built from Mongo; answers are meaningless before.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long followerCount(UUID user) {
+        return withGraph(g -> {
+            int id = g.idOf(user);
+            return id < 0 ? 0L : (long) g.followers.size(id);
+        });
+    }
+
+    public long followingCount(UUID user) {
+        return withGraph(g -> {
+            int id = g.idOf(user);
+            return id < 0 ? 0L : (long) g.following.size(id);
+        });
+    }
+
+    public boolean isFollowing(UUID follower, UUID followee) {
+        return withGraph(g -> g.isFollowing(g.idOf(follower), g.idOf(followee)));
+    }
+
+    // Both follow each other
+    public boolean isMutual(UUID first, UUID second) {
+        return withGraph(g -> {
+            int a = g.idOf(first);
+            int b = g.idOf(second);
+            return g.isFollowing(a, b) && g.isFollowing(b, a);
+        });
+    }
+
+    /**
+     * Up to {@code limit} users followed by both users.
+     */
+    public List<UUID> commonFollowing(UUID first, UUID second, int limit) {
+        return withGraph(g -> {
+            int a = g.idOf(first);
+            int b = g.idOf(second);
+            if (a < 0 || b < 0) {
+                return List.<UUID>of();
+            }
+            int[] common = intersect(g.following.lists[a], g.following.size(a),
+                    g.following.lists[b], g.following.size(b), limit);
+            List<UUID> users = new ArrayList<>(common.length);
+            for (int id : common) {
+                users.add(g.users[id]);
+            }
+            return users;
+        });
+    }
+
+    @EventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        UUID follower = parseUserId(event.followerId());
+        UUID followee = parseUserId(event.followeeId());
+        if (!enabled || follower == null || followee == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(graph, follower, followee, event.followed());
+            dirty = true;
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Picks up follows made by other instances
+    @Scheduled(fixedDelayString = "${blog.follow-graph.rebuild-interval-ms:600000}",
+            initialDelayString = "${blog.follow-graph.rebuild-interval-ms:600000}")
+    public void reconcile() {
+        if (enabled && ready) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.follow-graph.snapshot-interval-ms:300000}",
+            initialDelayString = "${blog.follow-graph.snapshot-interval-ms:300000}")
+    public void snapshotIfDirty() {
+        if (!enabled) {
+            return;
+        }
+        byte[] encoded;
+        lock.readLock().lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            // Encoded under the lock, written after it, so follow events don't wait on the disk
+            encoded = encode(graph);
+            dirty = false;
+        } catch (IOException e) {
+            log.error("❌ Could not encode follow graph snapshot: {}", e.getMessage());
+            return;
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            Path target = Path.of(snapshotPath);
+            Path parent = target.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, "follow-graph", ".tmp");
+            Files.write(temporary, encoded);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("💾 Follow graph snapshot written ({} bytes)", encoded.length);
+        } catch (IOException e) {
+            log.error("❌ Could not write follow graph snapshot to {}: {}", snapshotPath, e.getMessage());
+            markDirty();
+        }
+    }
+
+    private void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Graph rebuilt = rebuildTimer.record(this::buildFromMongo);
+            lock.writeLock().lock();
+            try {
+                for (FollowChangedEvent event : changedDuringRebuild) {
+                    apply(rebuilt, UUID.fromString(event.followerId()), UUID.fromString(event.followeeId()), event.followed());
+                }
+                graph = rebuilt;
+                dirty = true;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("🕸️  Follow graph built - users: {}, edges: {}", rebuilt.userCount, rebuilt.edges);
+        } catch (Exception e) {
+            log.error("❌ Follow graph rebuild failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    private Graph buildFromMongo() {
+        Graph built = new Graph();
+        Query edges = new Query().cursorBatchSize(10_000);
+        edges.fields().include("followerId").include("followeeId");
+        try (Stream<follow> stream = mongoTemplate.stream(edges, follow.class)) {
+            stream.forEach(edge -> {
+                UUID follower = parseUserId(edge.getFollowerId());
+                UUID followee = parseUserId(edge.getFolloweeId());
+                if (follower != null && followee != null) {
+                    int a = built.intern(follower);
+                    int b = built.intern(followee);
+                    built.following.append(a, b);
+                    built.followers.append(b, a);
+                }
+            });
+        }
+        // Appended in collection order: sort (and dedupe) every list once at the end
+        built.edges = built.following.sortAll();
+        built.followers.sortAll();
+        return built;
+    }
+
+    private static void apply(Graph target, UUID follower, UUID followee, boolean followed) {
+        int a = target.intern(follower);
+        int b = target.intern(followee);
+        if (followed) {
+            if (target.following.insert(a, b)) {
+                target.followers.insert(b, a);
+                target.edges++;
+            }
+        } else if (target.following.delete(a, b)) {
+            target.followers.delete(b, a);
+            target.edges--;
+        }
+    }
+
+    // Snapshot layout: magic, version, user count, edge count, then per user (in dense id order) its UUID,
+    // followee count and followee ids as varint gaps. Followers are derived on load.
+    private static byte[] encode(Graph source) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(source.userCount * 20 + (int) Math.min(source.edges * 2, Integer.MAX_VALUE / 2));
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(source.userCount);
+        out.writeLong(source.edges);
+        for (int id = 0; id < source.userCount; id++) {
+            UUID user = source.users[id];
+            out.writeLong(user.getMostSignificantBits());
+            out.writeLong(user.getLeastSignificantBits());
+            int size = source.following.size(id);
+            int[] followees = source.following.lists[id];
+            writeVarint(out, size);
+            int previous = -1;
+            for (int i = 0; i < size; i++) {
+                writeVarint(out, followees[i] - previous - 1);
+                previous = followees[i];
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void loadSnapshot() {
+        Path path = Path.of(snapshotPath);
+        if (!Files.isReadable(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                log.warn("⚠️  Ignoring follow graph snapshot {} with an unknown format", path);
+                return;
+            }
+            Graph loaded = new Graph();
+            int userCount = buffer.getInt();
+            loaded.edges = buffer.getLong();
+            for (int id = 0; id < userCount; id++) {
+                loaded.intern(new UUID(buffer.getLong(), buffer.getLong()));
+                int size = readVarint(buffer);
+                int[] followees = new int[size];
+                int previous = -1;
+                for (int i = 0; i < size; i++) {
+                    previous += readVarint(buffer) + 1;
+                    followees[i] = previous;
+                    // Visited in increasing id order, so every follower list comes out sorted
+                    loaded.followers.append(previous, id);
+                }
+                loaded.following.set(id, followees);
+            }
+            lock.writeLock().lock();
+            try {
+                if (!ready) {
+                    graph = loaded;
+                    ready = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("🕸️  Follow graph loaded from snapshot - users: {}, edges: {}", userCount, loaded.edges);
+        } catch (Exception e) {
+            log.warn("⚠️  Could not load follow graph snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Sorted intersection of two sorted id lists, at most {@code limit} ids. Walks both lists when their sizes
+     * are close; when one is much shorter, binary searches its ids in the longer one instead.
+     */
+    static int[] intersect(int[] first, int firstSize, int[] second, int secondSize, int limit) {
+        if (firstSize > secondSize) {
+            return intersect(second, secondSize, first, firstSize, limit);
+        }
+        int[] result = new int[Math.min(firstSize, limit)];
+        int found = 0;
+        if ((long) firstSize * (32 - Integer.numberOfLeadingZeros(secondSize)) < secondSize) {
+            int from = 0;
+            for (int i = 0; i < firstSize && found < result.length; i++) {
+                int at = Arrays.binarySearch(second, from, secondSize, first[i]);
+                if (at >= 0) {
+                    result[found++] = first[i];
+                    from = at + 1;
+                } else {
+                    from = -at - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < firstSize && j < secondSize && found < result.length) {
+                if (first[i] < second[j]) {
+                    i++;
+                } else if (first[i] > second[j]) {
+                    j++;
+                } else {
+                    result[found++] = first[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+
+    private <T> T withGraph(Function<Graph, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(graph);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ToDoubleFunction<FollowGraphIndex> read(ToDoubleFunction<Graph> metric) {
+        return index -> index.withGraph(metric::applyAsDouble);
+    }
+
+    private void markDirty() {
+        lock.writeLock().lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(MappedByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static UUID parseUserId(String userId) {
+        try {
+            return userId != null ? UUID.fromString(userId) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Dense ids in interning order, with followee and follower lists per id
+    private static final class Graph {
+        private final Map<UUID, Integer> ids = new HashMap<>();
+        private UUID[] users = new UUID[1024];
+        private int userCount;
+        private long edges;
+        private final Adjacency following = new Adjacency();
+        private final Adjacency followers = new Adjacency();
+
+        int idOf(UUID user) {
+            Integer id = ids.get(user);
+            return id != null ? id : -1;
+        }
+
+        int intern(UUID user) {
+            Integer existing = ids.get(user);
+            if (existing != null) {
+                return existing;
+            }
+            int id = userCount++;
+            if (id == users.length) {
+                users = Arrays.copyOf(users, users.length * 2);
+            }
+            users[id] = user;
+            ids.put(user, id);
+            following.ensureNode(id);
+            followers.ensureNode(id);
+            return id;
+        }
+
+        boolean isFollowing(int follower, int followee) {
+            return follower >= 0 && followee >= 0 && following.contains(follower, followee);
+        }
+    }
+
+    // Sorted int lists with spare capacity, so a single insert shifts instead of reallocating
+    private static final class Adjacency {
+        private static final int[] EMPTY = new int[0];
+
+        private int[][] lists = new int[1024][];
+        private int[] sizes = new int[1024];
+
+        void ensureNode(int node) {
+            if (node >= lists.length) {
+                int capacity = Math.max(lists.length * 2, node + 1);
+                lists = Arrays.copyOf(lists, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+            }
+            if (lists[node] == null) {
+                lists[node] = EMPTY;
+            }
+        }
+
+        int size(int node) {
+            return node < sizes.length ? sizes[node] : 0;
+        }
+
+        boolean contains(int node, int value) {
+            return Arrays.binarySearch(lists[node], 0, sizes[node], value) >= 0;
+        }
+
+        boolean insert(int node, int value) {
+            int at = Arrays.binarySearch(lists[node], 0, sizes[node], value);
+            if (at >= 0) {
+                return false;
+            }
+            int position = -at - 1;
+            int[] list = grow(node);
+            System.arraycopy(list, position, list, position + 1, sizes[node] - position);
+            list[position] = value;
+            sizes[node]++;
+            return true;
+        }
+
+        boolean delete(int node, int value) {
+            int at = Arrays.binarySearch(lists[node], 0, sizes[node], value);
+            if (at < 0) {
+                return false;
+            }
+            int[] list = lists[node];
+            System.arraycopy(list, at + 1, list, at, sizes[node] - at - 1);
+            sizes[node]--;
+            return true;
+        }
+
+        void append(int node, int value) {
+            ensureNode(node);
+            grow(node)[sizes[node]++] = value;
+        }
+
+        void set(int node, int[] sorted) {
+            ensureNode(node);
+            lists[node] = sorted;
+            sizes[node] = sorted.length;
+        }
+
+        // Sorts and dedupes every list, trimming spare capacity; returns the total size
+        long sortAll() {
+            long total = 0;
+            for (int node = 0; node < lists.length && lists[node] != null; node++) {
+                int[] list = lists[node];
+                int size = sizes[node];
+                Arrays.sort(list, 0, size);
+                int unique = 0;
+                for (int i = 0; i < size; i++) {
+                    if (unique == 0 || list[i] != list[unique - 1]) {
+                        list[unique++] = list[i];
+                    }
+                }
+                lists[node] = unique == list.length ? list : Arrays.copyOf(list, unique);
+                sizes[node] = unique;
+                total += unique;
+            }
+            return total;
+        }
+
+        private int[] grow(int node) {
+            int[] list = lists[node];
+            if (sizes[node] == list.length) {
+                list = Arrays.copyOf(list, Math.max(4, list.length + (list.length >> 1)));
+                lists[node] = list;
+            }
+            return list;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.DTO.followDTO.FollowCountsDTO;
+import FCJLaurels.awsrek.DTO.followDTO.FollowDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FollowService {
+    // Follow a user; empty if already following
+    Optional<FollowDTO> follow(String followerId, String followeeId);
+
+    // Unfollow a user; false if not following
+    boolean unfollow(String followerId, String followeeId);
+
+    // Check if a user follows another
+    boolean isFollowing(String followerId, String followeeId);
+
+    // Check if two users follow each other
+    boolean isMutual(String userId, String otherId);
+
+    // Up to limit users followed by both users
+    List<String> getCommonFollowing(String userId, String otherId, int limit);
+
+    // Users following userId, newest first
+    List<FollowDTO> getFollowers(String userId, int page, int size);
+
+    // Users followed by userId, newest first
+    List<FollowDTO> getFollowing(String userId, int page, int size);
+
+    // Follower and following counts
+    FollowCountsDTO getCounts(String userId);
+}
@@ -0,0 +1,175 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.DTO.followDTO.FollowCountsDTO;
+import FCJLaurels.awsrek.DTO.followDTO.FollowDTO;
+import FCJLaurels.awsrek.model.follow;
+import FCJLaurels.awsrek.model.followStats;
+import FCJLaurels.awsrek.repository.FollowRepository;
+import FCJLaurels.awsrek.repository.FollowStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class FollowServiceImplementation implements FollowService {
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private FollowStatsRepository followStatsRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private FollowGraphIndex followGraphIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Optional<FollowDTO> follow(String followerId, String followeeId) {
+        if (followerId.equals(followeeId)) {
+            throw new IllegalArgumentException("Users cannot follow themselves");
+        }
+        follow saved;
+        try {
+            // insert, not save: the deterministic id makes a second follow fail instead of overwriting
+            saved = followRepository.insert(follow.builder()
+                    .id(follow.idOf(followerId, followeeId))
+                    .followerId(followerId)
+                    .followeeId(followeeId)
+                    .build());
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+        incrementStats(followerId, "following", 1);
+        incrementStats(followeeId, "followers", 1);
+        timelineService.onFollow(followerId, followeeId);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, true));
+        log.debug("👥 {} followed {}", followerId, followeeId);
+        return Optional.of(mapToDTO(saved));
+    }
+
+    @Override
+    public boolean unfollow(String followerId, String followeeId) {
+        // Only the request that actually removed the edge adjusts the counts
+        long removed = mongoTemplate.remove(new Query(Criteria.where("_id").is(follow.idOf(followerId, followeeId))),
+                follow.class).getDeletedCount();
+        if (removed == 0) {
+            return false;
+        }
+        incrementStats(followerId, "following", -1);
+        incrementStats(followeeId, "followers", -1);
+        timelineService.onUnfollow(followerId, followeeId);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, false));
+        return true;
+    }
+
+    @Override
+    public boolean isFollowing(String followerId, String followeeId) {
+        UUID follower = parseUserId(followerId);
+        UUID followee = parseUserId(followeeId);
+        if (followGraphIndex.isReady() && follower != null && followee != null) {
+            return followGraphIndex.isFollowing(follower, followee);
+        }
+        return followRepository.existsById(follow.idOf(followerId, followeeId));
+    }
+
+    @Override
+    public boolean isMutual(String userId, String otherId) {
+        UUID user = parseUserId(userId);
+        UUID other = parseUserId(otherId);
+        if (followGraphIndex.isReady() && user != null && other != null) {
+            return followGraphIndex.isMutual(user, other);
+        }
+        return followRepository.existsById(follow.idOf(userId, otherId))
+                && followRepository.existsById(follow.idOf(otherId, userId));
+    }
+
+    @Override
+    public List<String> getCommonFollowing(String userId, String otherId, int limit) {
+        UUID user = parseUserId(userId);
+        UUID other = parseUserId(otherId);
+        if (followGraphIndex.isReady() && user != null && other != null) {
+            return followGraphIndex.commonFollowing(user, other, limit).stream()
+                    .map(UUID::toString)
+                    .collect(Collectors.toList());
+        }
+        // Graph still loading: the other user's followees, then which of them the user follows too
+        List<String> otherFollowing = mongoTemplate.findDistinct(new Query(Criteria.where("followerId").is(otherId)),
+                "followeeId", follow.class, String.class);
+        if (otherFollowing.isEmpty()) {
+            return List.of();
+        }
+        Query common = new Query(Criteria.where("followerId").is(userId).and("followeeId").in(otherFollowing))
+                .with(Sort.by("followeeId"))
+                .limit(limit);
+        common.fields().include("followeeId");
+        return mongoTemplate.find(common, follow.class).stream()
+                .map(follow::getFolloweeId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FollowDTO> getFollowers(String userId, int page, int size) {
+        return followRepository.findByFolloweeIdOrderByCreationDateDesc(userId, PageRequest.of(page, size))
+                .stream().map(this::mapToDTO).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FollowDTO> getFollowing(String userId, int page, int size) {
+        return followRepository.findByFollowerIdOrderByCreationDateDesc(userId, PageRequest.of(page, size))
+                .stream().map(this::mapToDTO).collect(Collectors.toList());
+    }
+
+    @Override
+    public FollowCountsDTO getCounts(String userId) {
+        UUID user = parseUserId(userId);
+        if (followGraphIndex.isReady() && user != null) {
+            return new FollowCountsDTO(userId, followGraphIndex.followerCount(user), followGraphIndex.followingCount(user));
+        }
+        return followStatsRepository.findById(userId)
+                .map(stats -> new FollowCountsDTO(userId, stats.getFollowers(), stats.getFollowing()))
+                .orElse(new FollowCountsDTO(userId, 0, 0));
+    }
+
+    private void incrementStats(String userId, String field, long delta) {
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(userId)), new Update().inc(field, delta), followStats.class);
+    }
+
+    private static UUID parseUserId(String userId) {
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private FollowDTO mapToDTO(follow entity) {
+        if (entity == null) return null;
+        return FollowDTO.builder()
+                .followerId(entity.getFollowerId())
+                .followeeId(entity.getFolloweeId())
+                .creationDate(entity.getCreationDate())
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import FCJLaurels.awsrek.DTO.likeDTO.LikeDTO;
 import FCJLaurels.awsrek.model.like;
 import FCJLaurels.awsrek.repository.LikeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +18,9 @@ public class LikeServiceImplementation implements LikeService {
     @Autowired
     private LikeRepository likeRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public LikeDTO createLike(LikeCreationDTO likeCreationDTO) {
         like newLike = like.builder()
@@ -25,6 +29,7 @@ public class LikeServiceImplementation implements LikeService {
                 .build();
 
         like saved = likeRepository.save(newLike);
+        publishChange(saved, true);
         return mapToDTO(saved);
     }
 
@@ -60,9 +65,11 @@ public class LikeServiceImplementation implements LikeService {
 
     @Override
     public boolean deleteLike(String id) {
-        boolean exists = likeRepository.existsById(id);
-        if (exists) {
+        // Loaded rather than existsById: trending needs the blog and time of the like
+        Optional<like> existing = likeRepository.findById(id);
+        if (existing.isPresent()) {
             likeRepository.deleteById(id);
+            publishChange(existing.get(), false);
             return true;
         }
         return false;
@@ -70,9 +77,10 @@ public class LikeServiceImplementation implements LikeService {
 
     @Override
     public boolean deleteLikeByUserIdAndBlogId(String userId, String blogId) {
-        boolean exists = likeRepository.existsByUserIdAndBlogId(userId, blogId);
-        if (exists) {
+        Optional<like> existing = likeRepository.findByUserIdAndBlogId(userId, blogId);
+        if (existing.isPresent()) {
             likeRepository.deleteByUserIdAndBlogId(userId, blogId);
+            publishChange(existing.get(), false);
             return true;
         }
         return false;
@@ -95,10 +103,11 @@ public class LikeServiceImplementation implements LikeService {
 
     @Override
     public Optional<LikeDTO> toggleLike(String userId, String blogId) {
-        boolean exists = likeRepository.existsByUserIdAndBlogId(userId, blogId);
-        if (exists) {
+        Optional<like> existing = likeRepository.findByUserIdAndBlogId(userId, blogId);
+        if (existing.isPresent()) {
             // Unlike: delete and return empty
             likeRepository.deleteByUserIdAndBlogId(userId, blogId);
+            publishChange(existing.get(), false);
             return Optional.empty();
         } else {
             like newLike = like.builder()
@@ -106,6 +115,7 @@ public class LikeServiceImplementation implements LikeService {
                     .userId(userId)
                     .build();
             like saved = likeRepository.save(newLike);
+            publishChange(saved, true);
             return Optional.of(mapToDTO(saved));
         }
     }
@@ -123,6 +133,11 @@ public class LikeServiceImplementation implements LikeService {
                 .build();
     }
 
+    private void publishChange(like entity, boolean added) {
+        eventPublisher.publishEvent(new EngagementChangedEvent(entity.getBlogId(), EngagementChangedEvent.Kind.LIKE,
+                added, entity.getCreationDate()));
+    }
+
     private LikeDTO mapToDTO(like entity) {
         if (entity == null) return null;
         return LikeDTO.builder()
@@ -0,0 +1,216 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes newly created blogs to clients connected to {@code /blogs/live} as Server-Sent Events, so they
+ * don't have to poll the feed. Each blog is serialized once into an SSE frame that is shared by every
+ * subscriber. Subscribers are written by a small pool of push threads through a bounded queue each;
+ * a client that falls {@code queue-size} frames behind is disconnected and is expected to reconnect
+ * and catch up from the feed.
+ *
+ * Metrics: {@code blog.live.subscribers}, {@code blog.live.pushed}, {@code blog.live.dropped}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveBlogBroadcaster {
+
+    private static final int RECENT_IDS = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.live.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    // Frames a subscriber may have pending before it is disconnected as too slow
+    @Value("${blog.live.queue-size:64}")
+    private int queueSize;
+
+    // Connections are closed after this long; EventSource clients reconnect on their own
+    @Value("${blog.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${blog.live.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${blog.live.push-threads:4}")
+    private int pushThreads;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Blogs already pushed: a local insert comes back once more from the change stream
+    private final Set<String> recentIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_IDS;
+        }
+    });
+
+    private ScheduledExecutorService pushExecutor;
+    private Set<DataWithMediaType> heartbeatFrame;
+    private Counter pushedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        pushExecutor = Executors.newScheduledThreadPool(pushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-blog-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Keeps idle connections from being cut by proxies and reveals clients that went away
+        heartbeatFrame = SseEmitter.event().comment("keepalive").build();
+        pushExecutor.scheduleAtFixedRate(() -> subscribers.forEach(subscriber -> subscriber.offer(heartbeatFrame)),
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("blog.live.subscribers", subscribers, Set::size)
+                .description("Clients connected to the live new-blog stream")
+                .register(meterRegistry);
+        pushedCounter = Counter.builder("blog.live.pushed")
+                .description("New blogs pushed to live subscribers")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("blog.live.dropped")
+                .description("Live subscribers disconnected for falling behind")
+                .tag("reason", "slow")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        pushExecutor.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * @return the emitter for a new subscriber, or null if the subscriber limit is reached
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onBlogCreated(BlogCreatedEvent event) {
+        BlogDisplay display = event.display();
+        synchronized (recentIds) {
+            if (!recentIds.add(display.getId())) {
+                return;
+            }
+        }
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(display);
+        } catch (JsonProcessingException e) {
+            log.error("❌ Could not serialize new blog {} for live subscribers", display.getId(), e);
+            return;
+        }
+        // The event id is the blog's feed cursor, so a client can page on from it
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                .id(BlogCursor.of(display).encode())
+                .name("blog")
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        pushedCounter.increment();
+        subscribers.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueSize);
+        // At most one drain task per subscriber, so its frames go out in order
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                droppedCounter.increment();
+                log.debug("🐢 Disconnecting live subscriber {} frames behind", queue.size());
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    pushExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while ((frame = queue.poll()) != null) {
+                    emitter.send(frame);
+                }
+            } catch (Exception e) {
+                // Client went away mid-write
+                subscribers.remove(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // A frame offered between the last poll and clearing the flag would otherwise wait for the next one
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (subscribers.remove(this)) {
+                queue.clear();
+                emitter.complete();
+            }
+        }
+    }
+}
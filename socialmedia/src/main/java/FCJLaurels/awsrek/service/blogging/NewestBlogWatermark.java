@@ -0,0 +1,91 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.repository.BlogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Feed position of the newest blog this instance knows of, so a "new since my head cursor?" poll that finds
+ * nothing new is answered from memory. Advanced by every blog created here (and elsewhere, with the change
+ * stream enabled) and refreshed from the newest stored blog every {@code watermark-refresh-interval-ms},
+ * which bounds how late posts made through other instances are noticed.
+ *
+ * Metrics: {@code blog.feed.since.requests{result}} (unchanged: answered from memory, queried: went to Mongo)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewestBlogWatermark {
+
+    private final BlogRepository blogRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Null until the first refresh: nothing can be ruled out yet
+    private final AtomicReference<BlogCursor> newest = new AtomicReference<>();
+    private Counter unchangedCounter;
+    private Counter queriedCounter;
+
+    @PostConstruct
+    public void init() {
+        unchangedCounter = Counter.builder("blog.feed.since.requests")
+                .description("New-since polls, by whether the database had to be queried")
+                .tag("result", "unchanged")
+                .register(meterRegistry);
+        queriedCounter = Counter.builder("blog.feed.since.requests")
+                .description("New-since polls, by whether the database had to be queried")
+                .tag("result", "queried")
+                .register(meterRegistry);
+    }
+
+    /**
+     * False only if no blog newer than {@code head} can exist; true means the database has to be asked.
+     */
+    public boolean mayHaveNewerThan(BlogCursor head) {
+        BlogCursor current = newest.get();
+        if (current != null && !head.isAfter(current)) {
+            unchangedCounter.increment();
+            return false;
+        }
+        queriedCounter.increment();
+        return true;
+    }
+
+    public void advance(BlogCursor position) {
+        newest.accumulateAndGet(position, (current, candidate) ->
+                current == null || current.isAfter(candidate) ? candidate : current);
+    }
+
+    @EventListener
+    public void onBlogCreated(BlogCreatedEvent event) {
+        advance(BlogCursor.of(event.display()));
+    }
+
+    @Scheduled(fixedDelayString = "${blog.feed.since.watermark-refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            BlogCursor before = newest.get();
+            List<blog> head = blogRepository.findAllByOrderByCreationDateDescIdDesc(PageRequest.of(0, 1));
+            if (!head.isEmpty()) {
+                BlogCursor stored = BlogCursor.of(head.get(0));
+                // Replaced rather than advanced, so a deleted newest blog doesn't keep every poll going to Mongo;
+                // unless a blog was created meanwhile, which the query may not have seen
+                if (!newest.compareAndSet(before, stored)) {
+                    advance(stored);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️  Newest blog watermark refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+
+/**
+ * A blog insert or delete seen on the Mongo change stream. It may have been written by this instance too,
+ * so listeners must tolerate changes they already applied. {@code inserted} is null for deletions.
+ */
+public record RemoteBlogChangedEvent(String id, blog inserted) {
+
+    public boolean isDelete() {
+        return inserted == null;
+    }
+}
@@ -0,0 +1,403 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.model.follow;
+import FCJLaurels.awsrek.model.followStats;
+import FCJLaurels.awsrek.model.timelineEntry;
+import FCJLaurels.awsrek.repository.BlogRepository;
+import FCJLaurels.awsrek.repository.FollowRepository;
+import FCJLaurels.awsrek.repository.FollowStatsRepository;
+import FCJLaurels.awsrek.repository.TimelineRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Materialized home timelines. A new blog is written into the timeline of its author and of every follower
+ * (fan-out on write, off the request thread, in unordered bulk batches), so reading a home timeline page is
+ * one range read on {@code (ownerId, creationDate, blogId)}. Authors with at least {@code celebrity-threshold}
+ * followers are not fanned out; their posts are merged in at read time from the blog collection instead.
+ *
+ * Entries carry the blog's author snapshot, so a timeline page renders without calling the user service.
+ * Edits and deletes are propagated to existing entries, following backfills the author's recent posts and
+ * unfollowing removes them. Entries expire with the timeline TTL index (see MongoIndexConfig).
+ *
+ * Metrics: {@code blog.timeline.fanout.entries}, {@code blog.timeline.fanout.duration},
+ * {@code blog.timeline.fanout.dropped}, {@code blog.timeline.celebrities}
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineService {
+
+    // Feed order: creationDate desc, id desc
+    private static final Comparator<blog> FEED_ORDER = Comparator.comparing(blog::getCreationDate)
+            .thenComparing(blog::getId)
+            .reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final FollowRepository followRepository;
+    private final FollowStatsRepository followStatsRepository;
+    private final TimelineRepository timelineRepository;
+    private final FollowGraphIndex followGraphIndex;
+    private final MeterRegistry meterRegistry;
+
+    // Authors with this many followers are merged on read instead of fanned out
+    @Value("${blog.timeline.celebrity-threshold:10000}")
+    private long celebrityThreshold;
+
+    // Timeline entries written per bulk operation
+    @Value("${blog.timeline.fanout-batch-size:1000}")
+    private int fanoutBatchSize;
+
+    // Single-thread stripes; tasks for the same follower (follow, unfollow) or blog run in submission order
+    @Value("${blog.timeline.fanout-threads:2}")
+    private int fanoutThreads;
+
+    // Pending tasks across all stripes. When a stripe is full, the writing request waits at most
+    // fanout-offer-timeout-ms for room and then drops the task (counted), instead of stalling the request
+    // or running it ahead of the tasks already queued.
+    @Value("${blog.timeline.fanout-queue-size:10000}")
+    private int fanoutQueueSize;
+
+    @Value("${blog.timeline.fanout-offer-timeout-ms:50}")
+    private long fanoutOfferTimeoutMs;
+
+    // Recent posts of a newly followed author copied into the follower's timeline
+    @Value("${blog.timeline.backfill-posts:50}")
+    private int backfillPosts;
+
+    private volatile Set<UUID> celebrities = Set.of();
+    private ThreadPoolExecutor[] fanoutStripes;
+    private Counter fanoutEntriesCounter;
+    private Counter fanoutDroppedCounter;
+    private Timer fanoutTimer;
+
+    @PostConstruct
+    public void init() {
+        fanoutStripes = new ThreadPoolExecutor[Math.max(1, fanoutThreads)];
+        int stripeQueueSize = Math.max(1, fanoutQueueSize / fanoutStripes.length);
+        for (int i = 0; i < fanoutStripes.length; i++) {
+            fanoutStripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(stripeQueueSize), runnable -> {
+                        Thread thread = new Thread(runnable, "timeline-fanout");
+                        thread.setDaemon(true);
+                        return thread;
+                    }, this::offerOrDrop);
+        }
+
+        fanoutEntriesCounter = Counter.builder("blog.timeline.fanout.entries")
+                .description("Timeline entries written by fan-out on write and follow backfill")
+                .register(meterRegistry);
+        fanoutDroppedCounter = Counter.builder("blog.timeline.fanout.dropped")
+                .description("Timeline tasks (fan-out, backfill, edit, delete) dropped because their stripe stayed full")
+                .register(meterRegistry);
+        fanoutTimer = Timer.builder("blog.timeline.fanout.duration")
+                .description("Time to deliver one new blog to the timelines of all followers")
+                .register(meterRegistry);
+        Gauge.builder("blog.timeline.celebrities", this, service -> service.celebrities.size())
+                .description("Authors merged on read instead of fanned out")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (ThreadPoolExecutor stripe : fanoutStripes) {
+            stripe.shutdown();
+        }
+    }
+
+    /**
+     * Delivers a new blog to the timelines of its author and followers, asynchronously.
+     */
+    public void fanOut(blog created) {
+        if (created.getAuthor() == null) {
+            return;
+        }
+        submit(created.getId(), () -> {
+            try {
+                fanoutTimer.record(() -> deliver(created));
+            } catch (Exception e) {
+                log.error("❌ Timeline fan-out of blog {} failed", created.getId(), e);
+            }
+        });
+    }
+
+    public void propagateEdit(blog edited) {
+        submit(edited.getId(), () -> {
+            try {
+                mongoTemplate.updateMulti(new Query(Criteria.where("blogId").is(edited.getId())), new Update()
+                        .set("title", edited.getTitle())
+                        .set("excerpt", edited.getExcerpt())
+                        .set("imageUrl", edited.getImageUrl()), timelineEntry.class);
+            } catch (Exception e) {
+                log.error("❌ Propagating edit of blog {} to timelines failed", edited.getId(), e);
+            }
+        });
+    }
+
+    public void removeBlog(String blogId) {
+        submit(blogId, () -> {
+            try {
+                timelineRepository.deleteByBlogId(blogId);
+            } catch (Exception e) {
+                log.error("❌ Removing blog {} from timelines failed", blogId, e);
+            }
+        });
+    }
+
+    // Copies the recent posts of a newly followed author into the follower's timeline
+    public void onFollow(String followerId, String followeeId) {
+        UUID author = parseUserId(followeeId);
+        if (author == null || celebrities.contains(author)) {
+            return;
+        }
+        // Same stripe as a later unfollow, so the backfill can never land after its delete
+        submit(followerId, () -> {
+            try {
+                Query recent = new BasicQuery(new Document(), Document.parse(BlogRepository.FEED_FIELDS))
+                        .addCriteria(Criteria.where("author").is(author))
+                        .with(Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("_id")))
+                        .limit(backfillPosts);
+                List<blog> posts = mongoTemplate.find(recent, blog.class);
+                if (!posts.isEmpty()) {
+                    BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, timelineEntry.class);
+                    posts.forEach(post -> upsertEntry(bulk, followerId, post));
+                    bulk.execute();
+                    fanoutEntriesCounter.increment(posts.size());
+                }
+            } catch (Exception e) {
+                log.error("❌ Timeline backfill of {} for {} failed", followeeId, followerId, e);
+            }
+        });
+    }
+
+    public void onUnfollow(String followerId, String followeeId) {
+        UUID author = parseUserId(followeeId);
+        if (author == null) {
+            return;
+        }
+        submit(followerId, () -> {
+            try {
+                timelineRepository.deleteByOwnerIdAndAuthor(followerId, author);
+            } catch (Exception e) {
+                log.error("❌ Removing {} from the timeline of {} failed", followeeId, followerId, e);
+            }
+        });
+    }
+
+    /**
+     * Up to {@code limit} blogs of the user's home timeline strictly after {@code after} (from the newest if null),
+     * in feed order and with the feed fields only.
+     */
+    public List<blog> homePage(String userId, BlogCursor after, int limit) {
+        Query timeline = new Query(Criteria.where("ownerId").is(userId));
+        if (after != null) {
+            timeline.addCriteria(after.afterCriteria("blogId"));
+        }
+        timeline.with(Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("blogId"))).limit(limit);
+        List<blog> page = mongoTemplate.find(timeline, timelineEntry.class).stream()
+                .map(TimelineService::toBlog)
+                .collect(Collectors.toList());
+
+        Set<UUID> mergedAuthors = followedCelebrities(userId);
+        if (mergedAuthors.isEmpty()) {
+            return page;
+        }
+
+        // Merge on read: the same window from the blogs of the celebrities this user follows
+        Query celebrityPosts = new BasicQuery(new Document(), Document.parse(BlogRepository.FEED_FIELDS))
+                .addCriteria(Criteria.where("author").in(mergedAuthors));
+        if (after != null) {
+            celebrityPosts.addCriteria(after.afterCriteria("_id"));
+        }
+        celebrityPosts.with(Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("_id"))).limit(limit);
+
+        // Posts from before an author became a celebrity can be in both lists
+        Map<String, blog> merged = new LinkedHashMap<>();
+        Stream.concat(page.stream(), mongoTemplate.find(celebrityPosts, blog.class).stream())
+                .sorted(FEED_ORDER)
+                .forEach(post -> merged.putIfAbsent(post.getId(), post));
+        return merged.values().stream().limit(limit).collect(Collectors.toList());
+    }
+
+    public boolean isCelebrity(String userId) {
+        return followStatsRepository.findById(userId)
+                .map(stats -> stats.getFollowers() >= celebrityThreshold)
+                .orElse(false);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.timeline.celebrity-refresh-interval-ms:60000}")
+    public void refreshCelebrities() {
+        try {
+            Set<UUID> refreshed = new HashSet<>();
+            for (followStats stats : followStatsRepository.findByFollowersGreaterThanEqual(celebrityThreshold)) {
+                UUID id = parseUserId(stats.getId());
+                if (id != null) {
+                    refreshed.add(id);
+                }
+            }
+            celebrities = Set.copyOf(refreshed);
+        } catch (Exception e) {
+            log.warn("⚠️  Celebrity list refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void submit(String key, Runnable task) {
+        fanoutStripes[Math.floorMod(key.hashCode(), fanoutStripes.length)].execute(task);
+    }
+
+    // Rejection handler of a full stripe: a short bounded wait for room, then the task is dropped. Timelines
+    // are a derived view, so a dropped task costs missing or stale entries until they expire, not lost blogs.
+    private void offerOrDrop(Runnable task, ThreadPoolExecutor stripe) {
+        if (stripe.isShutdown()) {
+            return;
+        }
+        try {
+            if (stripe.getQueue().offer(task, fanoutOfferTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        fanoutDroppedCounter.increment();
+        log.warn("⚠️  Timeline task dropped, fan-out stripe full ({} queued)", stripe.getQueue().size());
+    }
+
+    private void deliver(blog created) {
+        String authorId = created.getAuthor().toString();
+        if (isCelebrity(authorId)) {
+            log.debug("Blog {} by celebrity {} is merged on read, not fanned out", created.getId(), authorId);
+            return;
+        }
+
+        // The author's own timeline, then every follower, streamed so the follower list is never held whole
+        List<String> owners = new ArrayList<>(fanoutBatchSize);
+        owners.add(authorId);
+        long delivered = 0;
+        Query followers = new Query(Criteria.where("followeeId").is(authorId)).cursorBatchSize(fanoutBatchSize);
+        followers.fields().include("followerId");
+        try (Stream<follow> stream = mongoTemplate.stream(followers, follow.class)) {
+            Iterator<follow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                owners.add(iterator.next().getFollowerId());
+                if (owners.size() == fanoutBatchSize) {
+                    delivered += writeEntries(owners, created);
+                    owners.clear();
+                }
+            }
+        }
+        if (!owners.isEmpty()) {
+            delivered += writeEntries(owners, created);
+        }
+        log.debug("Blog {} delivered to {} timelines", created.getId(), delivered);
+    }
+
+    private int writeEntries(List<String> owners, blog created) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, timelineEntry.class);
+        owners.forEach(owner -> upsertEntry(bulk, owner, created));
+        bulk.execute();
+        fanoutEntriesCounter.increment(owners.size());
+        return owners.size();
+    }
+
+    // Upsert on the deterministic id, so a retried or duplicated delivery leaves one entry. A missing author
+    // snapshot is left for AuthorSnapshotService to fill in rather than written as null.
+    private static void upsertEntry(BulkOperations bulk, String ownerId, blog post) {
+        Update entry = new Update()
+                .set("ownerId", ownerId)
+                .set("blogId", post.getId())
+                .set("author", post.getAuthor())
+                .set("creationDate", post.getCreationDate())
+                .set("title", post.getTitle())
+                .set("excerpt", post.getExcerpt())
+                .set("imageUrl", post.getImageUrl());
+        if (post.getAuthorSnapshot() != null) {
+            entry.set("authorSnapshot", post.getAuthorSnapshot());
+        }
+        bulk.upsert(new Query(Criteria.where("_id").is(timelineEntry.idOf(ownerId, post.getId()))), entry);
+    }
+
+    // Celebrities the user follows, plus the user if they are one (their own posts aren't fanned out either)
+    private Set<UUID> followedCelebrities(String userId) {
+        Set<UUID> current = celebrities;
+        if (current.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> followed = new HashSet<>();
+        UUID self = parseUserId(userId);
+        if (followGraphIndex.isReady() && self != null) {
+            // In-memory binary searches, no query per read
+            for (UUID celebrity : current) {
+                if (followGraphIndex.isFollowing(self, celebrity)) {
+                    followed.add(celebrity);
+                }
+            }
+        } else {
+            List<String> edgeIds = current.stream()
+                    .map(celebrity -> follow.idOf(userId, celebrity.toString()))
+                    .collect(Collectors.toList());
+            for (follow edge : followRepository.findAllById(edgeIds)) {
+                UUID id = parseUserId(edge.getFolloweeId());
+                if (id != null) {
+                    followed.add(id);
+                }
+            }
+        }
+        if (self != null && current.contains(self)) {
+            followed.add(self);
+        }
+        return followed;
+    }
+
+    private static blog toBlog(timelineEntry entry) {
+        return blog.builder()
+                .id(entry.getBlogId())
+                .title(entry.getTitle())
+                .excerpt(entry.getExcerpt())
+                .imageUrl(entry.getImageUrl())
+                .author(entry.getAuthor())
+                .authorSnapshot(entry.getAuthorSnapshot())
+                .creationDate(entry.getCreationDate())
+                .build();
+    }
+
+    private static UUID parseUserId(String userId) {
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
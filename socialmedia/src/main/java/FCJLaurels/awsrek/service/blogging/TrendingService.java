@@ -0,0 +1,355 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import FCJLaurels.awsrek.model.blog;
+import FCJLaurels.awsrek.model.comment;
+import FCJLaurels.awsrek.model.like;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Ranks blogs for the trending feed by time-decayed engagement: the blog itself, each like and each comment
+ * add a weight that halves every {@code half-life-hours}.
+ *
+ * Scores use forward decay: every weight is scaled up by {@code e^((t - landmark) / tau)} for the time t it
+ * happened, instead of scaling all scores down as time passes. The ranking is the same, but a score only
+ * changes when something happens to its blog, so each like or comment is one O(log n) update and nothing is
+ * recomputed per request. Scores are kept as logarithms so the growing factor never overflows.
+ *
+ * The best {@code capacity} blogs live in a concurrent skip list that {@code /blogs/trending} pages through.
+ * A periodic rebuild from the last {@code window-hours} of likes and comments resets the landmark and picks
+ * up engagement recorded by other instances.
+ *
+ * Metrics: {@code blog.trending.tracked}, {@code blog.trending.events}, {@code blog.trending.rebuild}
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * A blog and its log score; ordered best first.
+     */
+    private record Ranked(double score, String blogId) {
+    }
+
+    private static final Comparator<Ranked> BEST_FIRST = Comparator.comparingDouble(Ranked::score)
+            .thenComparing(Ranked::blogId)
+            .reversed();
+
+    /**
+     * Blog ids of one trending page, best first, and the cursor of the next page (null on the last one).
+     */
+    public record RankedPage(List<String> blogIds, String nextCursor) {
+    }
+
+    // Everything rankings are relative to; replaced as a whole by a rebuild
+    private record State(long landmarkMillis, Map<String, Ranked> scores, ConcurrentSkipListSet<Ranked> ranking) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.trending.half-life-hours:12}")
+    private double halfLifeHours;
+
+    @Value("${blog.trending.capacity:5000}")
+    private int capacity;
+
+    // Likes and comments older than this are ignored by a rebuild (their weight has decayed away)
+    @Value("${blog.trending.window-hours:72}")
+    private long windowHours;
+
+    @Value("${blog.trending.weight.post:1.0}")
+    private double postWeight;
+
+    @Value("${blog.trending.weight.like:1.0}")
+    private double likeWeight;
+
+    @Value("${blog.trending.weight.comment:3.0}")
+    private double commentWeight;
+
+    private volatile State state;
+    private double tauMillis;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Engagement applied while a rebuild aggregates, replayed onto the rebuilt ranking
+    private final List<Runnable> changedDuringRebuild = new ArrayList<>();
+    private Counter likeEventsCounter;
+    private Counter commentEventsCounter;
+    private Timer rebuildTimer;
+
+    @PostConstruct
+    public void init() {
+        tauMillis = Duration.ofMinutes(Math.round(halfLifeHours * 60)).toMillis() / Math.log(2);
+        state = emptyState(System.currentTimeMillis());
+
+        Gauge.builder("blog.trending.tracked", this, service -> service.state.scores().size())
+                .description("Blogs currently ranked in the trending feed")
+                .register(meterRegistry);
+        likeEventsCounter = Counter.builder("blog.trending.events")
+                .description("Engagement changes applied to trending scores")
+                .tag("kind", "like")
+                .register(meterRegistry);
+        commentEventsCounter = Counter.builder("blog.trending.events")
+                .description("Engagement changes applied to trending scores")
+                .tag("kind", "comment")
+                .register(meterRegistry);
+        rebuildTimer = Timer.builder("blog.trending.rebuild")
+                .description("Time to rebuild trending scores from recent likes and comments")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.rebuild-interval-ms:900000}",
+            initialDelayString = "${blog.trending.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            State rebuilt = rebuildTimer.record(() -> buildFromMongo(System.currentTimeMillis()));
+            synchronized (changedDuringRebuild) {
+                // May count a change twice if the aggregation already saw it; harmless for a ranking
+                State previous = state;
+                state = rebuilt;
+                changedDuringRebuild.forEach(Runnable::run);
+                changedDuringRebuild.clear();
+                rebuilding.set(false);
+                log.info("🔥 Trending scores rebuilt - tracked: {} (was {})", rebuilt.scores().size(), previous.scores().size());
+            }
+        } catch (Exception e) {
+            synchronized (changedDuringRebuild) {
+                changedDuringRebuild.clear();
+                rebuilding.set(false);
+            }
+            log.error("❌ Trending rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onBlogCreated(BlogCreatedEvent event) {
+        if (state.scores().containsKey(event.display().getId())) {
+            // Already counted: a local insert comes back once more from the change stream
+            return;
+        }
+        apply(event.display().getId(), postWeight, event.display().getCreationDate());
+    }
+
+    @EventListener
+    public void onEngagementChanged(EngagementChangedEvent event) {
+        boolean isLike = event.kind() == EngagementChangedEvent.Kind.LIKE;
+        (isLike ? likeEventsCounter : commentEventsCounter).increment();
+        double weight = isLike ? likeWeight : commentWeight;
+        LocalDateTime at = event.at() != null ? event.at() : LocalDateTime.now();
+        if (!event.added() && toMillis(at) < state.landmarkMillis()) {
+            // Made before the landmark, so the rebuild never counted it; subtracting would eat newer engagement
+            return;
+        }
+        apply(event.blogId(), event.added() ? weight : -weight, at);
+    }
+
+    public void remove(String blogId) {
+        State current = state;
+        current.scores().computeIfPresent(blogId, (id, ranked) -> {
+            current.ranking().remove(ranked);
+            return null;
+        });
+    }
+
+    /**
+     * The trending page after {@code cursor} (from the top if null).
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public RankedPage page(String cursor, int size) {
+        State current = state;
+        Iterator<Ranked> iterator;
+        if (cursor == null || cursor.isEmpty()) {
+            iterator = current.ranking().iterator();
+        } else {
+            iterator = current.ranking().tailSet(decodeCursor(cursor, current), false).iterator();
+        }
+        List<String> blogIds = new ArrayList<>(size);
+        Ranked last = null;
+        while (iterator.hasNext() && blogIds.size() < size) {
+            last = iterator.next();
+            blogIds.add(last.blogId());
+        }
+        // Ranks move between requests; the cursor is a score, so a page continues below it
+        String nextCursor = last != null && iterator.hasNext() ? encodeCursor(last, current) : null;
+        return new RankedPage(blogIds, nextCursor);
+    }
+
+    private void apply(String blogId, double weight, LocalDateTime at) {
+        if (blogId == null || at == null) {
+            return;
+        }
+        // Serialized with the swap in rebuild, so a change lands in the new ranking exactly once more
+        synchronized (changedDuringRebuild) {
+            if (rebuilding.get()) {
+                changedDuringRebuild.add(() -> apply(state, blogId, weight, at));
+            }
+            apply(state, blogId, weight, at);
+        }
+    }
+
+    private void apply(State target, String blogId, double weight, LocalDateTime at) {
+        double term = Math.log(Math.abs(weight)) + (toMillis(at) - target.landmarkMillis()) / tauMillis;
+        target.scores().compute(blogId, (id, previous) -> {
+            double score;
+            if (previous == null) {
+                if (weight < 0) {
+                    // Removal for a blog that is not ranked (anymore)
+                    return null;
+                }
+                score = term;
+            } else {
+                target.ranking().remove(previous);
+                score = weight > 0 ? logAddExp(previous.score(), term) : logSubExp(previous.score(), term);
+            }
+            Ranked ranked = new Ranked(score, id);
+            target.ranking().add(ranked);
+            return ranked;
+        });
+        trim(target);
+    }
+
+    // Keeps the best capacity blogs
+    private void trim(State target) {
+        while (target.scores().size() > capacity) {
+            Ranked worst = target.ranking().pollLast();
+            if (worst == null) {
+                return;
+            }
+            target.scores().remove(worst.blogId(), worst);
+        }
+    }
+
+    private State buildFromMongo(long now) {
+        State built = emptyState(now - Duration.ofHours(windowHours).toMillis());
+        Date windowStart = new Date(built.landmarkMillis());
+        Map<String, Double> scores = new HashMap<>();
+
+        // Blogs created in the window start with their own weight
+        Query recentBlogs = new Query(Criteria.where("creationDate").gte(windowStart));
+        recentBlogs.fields().include("_id").include("creationDate");
+        try (Stream<blog> blogs = mongoTemplate.stream(recentBlogs, blog.class)) {
+            blogs.forEach(b -> scores.merge(b.getId(),
+                    Math.log(postWeight) + (toMillis(b.getCreationDate()) - built.landmarkMillis()) / tauMillis,
+                    TrendingService::logAddExp));
+        }
+        // Likes and comments summed per blog server-side, each scaled by e^((t - landmark) / tau)
+        addEngagement(like.class, likeWeight, windowStart, scores);
+        addEngagement(comment.class, commentWeight, windowStart, scores);
+
+        scores.entrySet().stream()
+                .map(entry -> new Ranked(entry.getValue(), entry.getKey()))
+                .sorted(BEST_FIRST)
+                .limit(capacity)
+                .forEach(ranked -> {
+                    built.scores().put(ranked.blogId(), ranked);
+                    built.ranking().add(ranked);
+                });
+        return built;
+    }
+
+    private void addEngagement(Class<?> entity, double weight, Date windowStart, Map<String, Double> scores) {
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("creationDate", new Document("$gte", windowStart))),
+                new Document("$group", new Document("_id", "$blogId")
+                        .append("decayed", new Document("$sum", new Document("$exp", new Document("$divide",
+                                List.of(new Document("$subtract", List.of("$creationDate", windowStart)), tauMillis)))))));
+        for (Document group : mongoTemplate.getCollection(mongoTemplate.getCollectionName(entity)).aggregate(pipeline)) {
+            String blogId = group.getString("_id");
+            Number decayed = group.get("decayed", Number.class);
+            if (blogId != null && decayed != null && decayed.doubleValue() > 0) {
+                scores.merge(blogId, Math.log(weight * decayed.doubleValue()), TrendingService::logAddExp);
+            }
+        }
+    }
+
+    private State emptyState(long landmarkMillis) {
+        return new State(landmarkMillis, new ConcurrentHashMap<>(), new ConcurrentSkipListSet<>(BEST_FIRST));
+    }
+
+    // Cursor: landmark, log score and blog id, so it stays valid across a rebuild that moves the landmark
+    private String encodeCursor(Ranked ranked, State current) {
+        byte[] id = ranked.blogId().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 8 + id.length)
+                .putLong(current.landmarkMillis())
+                .putDouble(ranked.score())
+                .put(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private Ranked decodeCursor(String cursor, State current) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            long landmarkMillis = buffer.getLong();
+            double score = buffer.getDouble();
+            if (!buffer.hasRemaining() || Double.isNaN(score)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String blogId = new String(buffer.array(), buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+            return new Ranked(score + (landmarkMillis - current.landmarkMillis()) / tauMillis, blogId);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    // log(e^a + e^b) without overflow
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    // log(e^a - e^b); removing at least everything there was leaves a blog at the bottom of the ranking
+    private static double logSubExp(double a, double b) {
+        if (b >= a) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return a + Math.log1p(-Math.exp(b - a));
+    }
+}
@@ -0,0 +1,110 @@
+package FCJLaurels.awsrek.controller.blogging;
+
+import FCJLaurels.awsrek.DTO.blogDTO.BlogDisplay;
+import FCJLaurels.awsrek.config.HttpCachePolicy;
+import FCJLaurels.awsrek.service.blogging.BlogService;
+import FCJLaurels.awsrek.service.blogging.Conditional;
+import FCJLaurels.awsrek.service.blogging.LiveBlogBroadcaster;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cache headers of {@code /blogs/{id}/display}: shared caching only when the display has an ETag.
+ * Errors of {@code /blogs/newest/since}: 400 only for a malformed cursor, never a quiet "nothing new".
+ */
+class BlogControllerTest {
+
+    private static final String ETAG = "\"3-18f2a1c0e00-2\"";
+
+    private final BlogService blogService = mock(BlogService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        HttpCachePolicy httpCachePolicy = new HttpCachePolicy();
+        ReflectionTestUtils.setField(httpCachePolicy, "displayMaxAgeSeconds", 60L);
+        ReflectionTestUtils.setField(httpCachePolicy, "feedMaxAgeSeconds", 5L);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new BlogController(blogService, mock(LiveBlogBroadcaster.class), httpCachePolicy)).build();
+    }
+
+    @Test
+    void displayWithETagIsPubliclyCacheable() throws Exception {
+        when(blogService.getBlogDisplayById(eq("b1"), any())).thenReturn(Optional.of(new Conditional<>(ETAG, display())));
+
+        mockMvc.perform(get("/blogs/b1/display"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andExpect(jsonPath("$.title").value("Hello"));
+    }
+
+    @Test
+    void revalidatedDisplayKeepsItsCacheHeaders() throws Exception {
+        when(blogService.getBlogDisplayById("b1", ETAG)).thenReturn(Optional.of(Conditional.notModified(ETAG)));
+
+        mockMvc.perform(get("/blogs/b1/display").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+    }
+
+    @Test
+    void displayWithoutETagMustNotBeReusedByCaches() throws Exception {
+        when(blogService.getBlogDisplayById(eq("b1"), any())).thenReturn(Optional.of(new Conditional<>(null, display())));
+
+        mockMvc.perform(get("/blogs/b1/display"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.title").value("Hello"));
+    }
+
+    @Test
+    void missingBlogIsNotFound() throws Exception {
+        when(blogService.getBlogDisplayById(eq("nope"), any())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/blogs/nope/display"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void malformedSinceCursorIsBadRequest() throws Exception {
+        when(blogService.getBlogsSince("garbage", 50, false)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/blogs/newest/since").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sinceOutageIsNotReportedAsNothingNew() {
+        when(blogService.getBlogsSince("c1", 50, false)).thenThrow(new IllegalStateException("Mongo unavailable"));
+
+        // Standalone MockMvc rethrows what the servlet container would turn into a 500
+        ServletException error = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/blogs/newest/since").param("cursor", "c1")));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+
+    private static BlogDisplay display() {
+        return BlogDisplay.builder().id("b1").title("Hello").authorName("Alice").build();
+    }
+}
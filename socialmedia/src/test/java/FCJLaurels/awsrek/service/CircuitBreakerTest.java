@@ -0,0 +1,98 @@
+package FCJLaurels.awsrek.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    // 50% of the last 4 calls, at least 4 seen
+    private static CircuitBreaker breaker(long openDurationMillis, int halfOpenCalls) {
+        return new CircuitBreaker(new SimpleMeterRegistry(), "test", 50, 4, 4, openDurationMillis, halfOpenCalls);
+    }
+
+    @Test
+    void staysClosedUntilMinimumCallsWereSeen() {
+        CircuitBreaker breaker = breaker(60_000, 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void opensWhenTheFailureRateReachesTheThresholdAndRejects() {
+        CircuitBreaker breaker = breaker(60_000, 1);
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void oldOutcomesSlideOutOfTheWindow() {
+        CircuitBreaker breaker = breaker(60_000, 1);
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        // Replaces the oldest failure: still 1 of 4
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenClosesAfterEveryTrialCallSucceeded() {
+        CircuitBreaker breaker = opened(breaker(0, 2));
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenFailureReopens() {
+        CircuitBreaker breaker = opened(breaker(60_000, 1));
+        // Open duration 60 s: still rejecting
+        assertFalse(breaker.tryAcquirePermission());
+
+        CircuitBreaker expired = opened(breaker(0, 1));
+        assertTrue(expired.tryAcquirePermission());
+        expired.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, expired.getState());
+    }
+
+    @Test
+    void ignoredTrialCallReturnsItsPermit() {
+        CircuitBreaker breaker = opened(breaker(0, 1));
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onIgnored();
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    private static CircuitBreaker opened(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,127 @@
+package FCJLaurels.awsrek.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>(registry, "test");
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLoadsOfOneKeyShareTheLeadersCall() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "v";
+        }));
+        awaitCount(flight::inFlightCount, 1);
+
+        Future<String> follower = executor.submit(() -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        awaitCount(() -> (int) collapsed(), 1);
+        release.countDown();
+
+        assertEquals("v", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("v", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void leaderFailureReachesJoinedCallersAndClearsTheFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            throw new IllegalStateException("down");
+        }));
+        awaitCount(flight::inFlightCount, 1);
+        Future<String> follower = executor.submit(() -> flight.execute("k", () -> "unused"));
+        awaitCount(() -> (int) collapsed(), 1);
+        release.countDown();
+
+        for (Future<String> caller : List.of(leader, follower)) {
+            Exception e = assertThrows(Exception.class, () -> caller.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals("fresh", flight.execute("k", () -> "fresh"));
+    }
+
+    @Test
+    void batchLoadGetsDistinctKeysAndLeavesMissingOnesOut() {
+        Map<String, String> result = flight.executeAll(List.of("a", "b", "a", "c"), keys -> {
+            assertEquals(Set.of("a", "b", "c"), keys);
+            return Map.of("a", "1", "c", "3");
+        });
+
+        assertEquals(Map.of("a", "1", "c", "3"), result);
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void asyncBatchJoinsKeysAlreadyInFlight() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        Map<String, CompletableFuture<String>> first = flight.executeAllAsync(List.of("a"), keys -> Map.of("a", pending));
+        Map<String, CompletableFuture<String>> second = flight.executeAllAsync(List.of("a", "b"), keys -> {
+            assertEquals(Set.of("b"), keys);
+            return Map.of();
+        });
+
+        assertSame(first.get("a"), second.get("a"));
+        assertNull(second.get("b").join());
+        assertEquals(1, flight.inFlightCount());
+
+        pending.complete("1");
+        assertEquals("1", second.get("a").join());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    private double collapsed() {
+        return registry.get("singleflight.calls").tag("role", "collapsed").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCount(IntSupplier count, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count.getAsInt() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, count.getAsInt());
+    }
+}
@@ -0,0 +1,172 @@
+package FCJLaurels.awsrek.service;
+
+import FCJ.user.grpc.BlogUserInfoRequest;
+import FCJ.user.grpc.BlogUserInfoResponse;
+import FCJ.user.grpc.UserInfoServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Page enrichment latency against an in-process user-info server that delays each lookup by an injected
+ * 20-80 ms. The server does not implement BatchBlogUserInfo, so every author is one BlogUserInfo call (the
+ * N+1 case): serially a page costs the sum of its lookups, fanned out it should cost about the slowest one.
+ *
+ * Timing-sensitive, so it only runs in the benchmark profile: {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class UserGrpcClientServiceBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserGrpcClientServiceBenchmarkTest.class);
+
+    private static final int PAGE_AUTHORS = 20;
+    private static final int ROUNDS = 5;
+    private static final long MIN_LATENCY_MS = 20;
+    private static final long MAX_LATENCY_MS = 80;
+    // Scheduling and serialization on top of the slowest lookup that still counts as "about the max"
+    private static final long OVERHEAD_ALLOWANCE_MS = 50;
+
+    private final Map<String, Long> injectedLatencyMs = new ConcurrentHashMap<>();
+
+    private ExecutorService serverExecutor;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        serverExecutor = Executors.newCachedThreadPool();
+        server = InProcessServerBuilder.forName(name)
+                .executor(serverExecutor)
+                .addService(new SlowUserInfoService())
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void pageLatencyIsTheSlowestLookupNotTheSum() {
+        UserGrpcClientService client = newClient();
+        // Warm up the channel and the code paths
+        client.getUserInfosAsync(page()).join();
+        page().forEach(client::getUserInfo);
+
+        long[] serialMs = new long[ROUNDS];
+        long[] asyncOverMaxMs = new long[ROUNDS];
+        long sumMs = 0;
+        long maxMs = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            // Fresh ids every time, so no lookup is answered from the cache
+            List<String> serial = page();
+            sumMs = serial.stream().mapToLong(injectedLatencyMs::get).sum();
+            long start = System.nanoTime();
+            serial.forEach(client::getUserInfo);
+            serialMs[round] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(serialMs[round] >= sumMs, "serial page took " + serialMs[round] + " ms, less than its " + sumMs + " ms of lookups");
+
+            List<String> fannedOut = page();
+            maxMs = fannedOut.stream().mapToLong(injectedLatencyMs::get).max().orElse(0);
+            start = System.nanoTime();
+            Map<String, BlogUserInfoResponse> users = client.getUserInfosAsync(fannedOut).join();
+            asyncOverMaxMs[round] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) - maxMs;
+            assertEquals(PAGE_AUTHORS, users.size());
+        }
+
+        long medianOverhead = median(asyncOverMaxMs);
+        log.info("{} authors at {}-{} ms per lookup: serial median {} ms, fanned out median {} ms over the slowest lookup",
+                PAGE_AUTHORS, MIN_LATENCY_MS, MAX_LATENCY_MS, median(serialMs), medianOverhead);
+        assertTrue(medianOverhead < OVERHEAD_ALLOWANCE_MS,
+                "fanned-out page took " + medianOverhead + " ms longer than its slowest lookup (last round: max "
+                        + maxMs + " ms, sum " + sumMs + " ms)");
+    }
+
+    private UserGrpcClientService newClient() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserInfoCache cache = new UserInfoCache(registry);
+        ReflectionTestUtils.setField(cache, "maxSize", 10_000L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "staleTtlSeconds", 86400L);
+        ReflectionTestUtils.setField(cache, "watchedTtlSeconds", 3600L);
+        cache.init();
+
+        UserGrpcClientService client = new UserGrpcClientService(cache, registry);
+        ReflectionTestUtils.setField(client, "grpcServerAddress", "in-process");
+        ReflectionTestUtils.setField(client, "loadBalancingPolicy", "round_robin");
+        ReflectionTestUtils.setField(client, "channelPoolSize", 1);
+        ReflectionTestUtils.setField(client, "grpcTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(client, "maxConcurrentCalls", 64);
+        ReflectionTestUtils.setField(client, "batchSize", 100);
+        ReflectionTestUtils.setField(client, "breakerFailureRateThreshold", 50);
+        ReflectionTestUtils.setField(client, "breakerWindowSize", 20);
+        ReflectionTestUtils.setField(client, "breakerMinimumCalls", 10);
+        ReflectionTestUtils.setField(client, "breakerOpenDurationMs", 10000L);
+        ReflectionTestUtils.setField(client, "breakerHalfOpenCalls", 3);
+        ReflectionTestUtils.setField(client, "breakerMinDeadlineMs", 1000L);
+        ReflectionTestUtils.setField(client, "hedgingEnabled", false);
+        ReflectionTestUtils.setField(client, "hedgeDelayMs", 0L);
+        ReflectionTestUtils.setField(client, "hedgeMinDelayMs", 10L);
+        client.initStubs(channel);
+        return client;
+    }
+
+    // New author ids, each with its own injected latency
+    private List<String> page() {
+        List<String> ids = IntStream.range(0, PAGE_AUTHORS).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        ids.forEach(id -> injectedLatencyMs.put(id, ThreadLocalRandom.current().nextLong(MIN_LATENCY_MS, MAX_LATENCY_MS + 1)));
+        return ids;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private class SlowUserInfoService extends UserInfoServiceGrpc.UserInfoServiceImplBase {
+        @Override
+        public void blogUserInfo(BlogUserInfoRequest request, StreamObserver<BlogUserInfoResponse> responseObserver) {
+            try {
+                Thread.sleep(injectedLatencyMs.getOrDefault(request.getId(), MAX_LATENCY_MS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            responseObserver.onNext(BlogUserInfoResponse.newBuilder()
+                    .setName("user-" + request.getId())
+                    .setAvatar("https://cdn.example.com/" + request.getId() + ".png")
+                    .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
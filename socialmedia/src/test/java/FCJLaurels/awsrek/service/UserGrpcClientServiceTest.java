@@ -0,0 +1,159 @@
+package FCJLaurels.awsrek.service;
+
+import FCJ.user.grpc.BlogUserInfoRequest;
+import FCJ.user.grpc.BlogUserInfoResponse;
+import FCJ.user.grpc.UserInfoServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Author enrichment against an in-process user-info server. The server does not implement BatchBlogUserInfo,
+ * so every lookup is one BlogUserInfo call (the N+1 case), and it holds each call until the test lets it go.
+ */
+class UserGrpcClientServiceTest {
+
+    private static final int PAGE_AUTHORS = 20;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    // Counted down by every call the server receives
+    private CountDownLatch arrivals;
+    // Calls are answered once this opens (or after 5 s)
+    private CountDownLatch release;
+
+    private ExecutorService serverExecutor;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        serverExecutor = Executors.newCachedThreadPool();
+        server = InProcessServerBuilder.forName(name)
+                .executor(serverExecutor)
+                .addService(new HeldUserInfoService())
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void asyncEnrichmentHasEveryLookupOutstandingAtOnce() throws Exception {
+        UserGrpcClientService client = newClient(32);
+        arrivals = new CountDownLatch(PAGE_AUTHORS);
+        release = new CountDownLatch(1);
+
+        CompletableFuture<Map<String, BlogUserInfoResponse>> users = client.getUserInfosAsync(randomIds());
+
+        // Only a concurrent fan-out gets every call to the server before any has been answered
+        assertTrue(arrivals.await(5, TimeUnit.SECONDS), (PAGE_AUTHORS - arrivals.getCount()) + " calls arrived");
+        assertEquals(PAGE_AUTHORS, maxInFlight.get());
+        release.countDown();
+        assertEquals(PAGE_AUTHORS, users.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void asyncEnrichmentQueuesBeyondConcurrencyLimitWithoutBlocking() throws Exception {
+        int limit = 4;
+        UserGrpcClientService client = newClient(limit);
+        arrivals = new CountDownLatch(limit);
+        release = new CountDownLatch(1);
+
+        // Every permit is taken and the rest of the page is queued, but the caller is not held up
+        CompletableFuture<Map<String, BlogUserInfoResponse>> users =
+                assertTimeoutPreemptively(Duration.ofSeconds(1), () -> client.getUserInfosAsync(randomIds()));
+        assertTrue(arrivals.await(5, TimeUnit.SECONDS));
+        assertFalse(users.isDone());
+
+        release.countDown();
+        assertEquals(PAGE_AUTHORS, users.get(5, TimeUnit.SECONDS).size());
+        assertEquals(limit, maxInFlight.get());
+    }
+
+    private UserGrpcClientService newClient(int maxConcurrentCalls) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserInfoCache cache = new UserInfoCache(registry);
+        ReflectionTestUtils.setField(cache, "maxSize", 10_000L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "staleTtlSeconds", 86400L);
+        ReflectionTestUtils.setField(cache, "watchedTtlSeconds", 3600L);
+        cache.init();
+
+        UserGrpcClientService client = new UserGrpcClientService(cache, registry);
+        ReflectionTestUtils.setField(client, "grpcServerAddress", "in-process");
+        ReflectionTestUtils.setField(client, "loadBalancingPolicy", "round_robin");
+        ReflectionTestUtils.setField(client, "channelPoolSize", 1);
+        ReflectionTestUtils.setField(client, "grpcTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(client, "maxConcurrentCalls", maxConcurrentCalls);
+        ReflectionTestUtils.setField(client, "batchSize", 100);
+        ReflectionTestUtils.setField(client, "breakerFailureRateThreshold", 50);
+        ReflectionTestUtils.setField(client, "breakerWindowSize", 20);
+        ReflectionTestUtils.setField(client, "breakerMinimumCalls", 10);
+        ReflectionTestUtils.setField(client, "breakerOpenDurationMs", 10000L);
+        ReflectionTestUtils.setField(client, "breakerHalfOpenCalls", 3);
+        ReflectionTestUtils.setField(client, "breakerMinDeadlineMs", 1000L);
+        ReflectionTestUtils.setField(client, "hedgingEnabled", false);
+        ReflectionTestUtils.setField(client, "hedgeDelayMs", 0L);
+        ReflectionTestUtils.setField(client, "hedgeMinDelayMs", 10L);
+        client.initStubs(channel);
+        return client;
+    }
+
+    private static List<String> randomIds() {
+        return IntStream.range(0, PAGE_AUTHORS).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+
+    private class HeldUserInfoService extends UserInfoServiceGrpc.UserInfoServiceImplBase {
+        @Override
+        public void blogUserInfo(BlogUserInfoRequest request, StreamObserver<BlogUserInfoResponse> responseObserver) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            arrivals.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // Leave the in-flight count before replying, the client may start its next call as soon as it has the answer
+                inFlight.decrementAndGet();
+            }
+            responseObserver.onNext(BlogUserInfoResponse.newBuilder()
+                    .setName("user-" + request.getId())
+                    .setAvatar("https://cdn.example.com/" + request.getId() + ".png")
+                    .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
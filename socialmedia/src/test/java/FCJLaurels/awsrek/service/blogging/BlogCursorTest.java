@@ -0,0 +1,67 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlogCursorTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_000_000);
+
+    @Test
+    void uuidIdRoundTripsInACompactUrlSafeToken() {
+        BlogCursor cursor = new BlogCursor(CREATED, "0f8fad5b-d9cb-469f-a165-70867728950e");
+        String token = cursor.encode();
+
+        assertEquals(34, token.length());
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, BlogCursor.decode(token));
+    }
+
+    @Test
+    void otherIdsRoundTripAsText() {
+        BlogCursor objectId = new BlogCursor(CREATED, "652f1c0e9b1e8a4d2c3b4a59");
+        // Parses as a UUID but does not print back the same, so it must not be re-encoded as one
+        BlogCursor lenientUuid = new BlogCursor(CREATED, "1-2-3-4-5");
+
+        assertEquals(objectId, BlogCursor.decode(objectId.encode()));
+        assertEquals(lenientUuid, BlogCursor.decode(lenientUuid.encode()));
+    }
+
+    @Test
+    void legacyTimestampTokenDecodesWithoutId() {
+        String legacy = Base64.getEncoder().encodeToString("2024-05-01T10:15:30".getBytes(StandardCharsets.UTF_8));
+
+        BlogCursor cursor = BlogCursor.decode(legacy);
+
+        assertEquals(LocalDateTime.of(2024, 5, 1, 10, 15, 30), cursor.creationDate());
+        assertNull(cursor.id());
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BlogCursor.decode("not a cursor!"));
+        String notATimestamp = Base64.getUrlEncoder().encodeToString("yesterday".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> BlogCursor.decode(notATimestamp));
+    }
+
+    @Test
+    void isAfterFollowsFeedOrder() {
+        BlogCursor position = new BlogCursor(CREATED, "b");
+
+        assertTrue(new BlogCursor(CREATED.minusNanos(1_000_000), "z").isAfter(position));
+        assertTrue(new BlogCursor(CREATED, "a").isAfter(position));
+        assertFalse(new BlogCursor(CREATED, "b").isAfter(position));
+        assertFalse(new BlogCursor(CREATED, "c").isAfter(position));
+        // Legacy position: same timestamp is not after, whatever the id
+        assertFalse(new BlogCursor(CREATED, "a").isAfter(new BlogCursor(CREATED, null)));
+    }
+}
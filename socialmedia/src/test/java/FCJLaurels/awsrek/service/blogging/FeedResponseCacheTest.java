@@ -0,0 +1,45 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedResponseCacheTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    // A page after (T, "m") whose look-ahead blog is (T - 1h, "m")
+    private static final BlogCursor AFTER = new BlogCursor(T, "m");
+    private static final BlogCursor LOOKAHEAD = new BlogCursor(T.minusHours(1), "m");
+
+    @Test
+    void coversStrictlyAfterTheCursorUpToTheLookahead() {
+        FeedResponseCache.CachedPage page = page(AFTER, LOOKAHEAD);
+
+        assertFalse(page.covers(AFTER));
+        assertFalse(page.covers(new BlogCursor(T, "n")));
+        assertTrue(page.covers(new BlogCursor(T, "l")));
+        assertTrue(page.covers(new BlogCursor(T.minusMinutes(30), "z")));
+        assertTrue(page.covers(new BlogCursor(T.minusHours(1), "n")));
+        assertTrue(page.covers(LOOKAHEAD));
+        assertFalse(page.covers(new BlogCursor(T.minusHours(1), "l")));
+        assertFalse(page.covers(new BlogCursor(T.minusHours(2), "z")));
+    }
+
+    @Test
+    void openEndsCoverEverythingOnThatSide() {
+        assertTrue(page(null, LOOKAHEAD).covers(new BlogCursor(T.plusYears(1), "a")));
+        assertFalse(page(null, LOOKAHEAD).covers(new BlogCursor(T.minusHours(2), "a")));
+        // Last page: no look-ahead blog
+        assertTrue(page(AFTER, null).covers(new BlogCursor(T.minusYears(1), "a")));
+        assertFalse(page(AFTER, null).covers(new BlogCursor(T.plusSeconds(1), "a")));
+    }
+
+    private static FeedResponseCache.CachedPage page(BlogCursor after, BlogCursor lookahead) {
+        return new FeedResponseCache.CachedPage(new byte[0], "\"etag\"", after, lookahead, Set.of());
+    }
+}
@@ -0,0 +1,91 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FollowGraphIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotLoadsBackTheSameGraph() {
+        Path snapshot = directory.resolve("follow-graph.bin");
+        // Enough users that id gaps need multi-byte varints
+        List<UUID> users = new ArrayList<>();
+        IntStream.range(0, 300).forEach(i -> users.add(UUID.randomUUID()));
+        UUID alice = users.get(0);
+        UUID bob = users.get(1);
+        UUID far = users.get(299);
+
+        FollowGraphIndex written = index(snapshot);
+        users.forEach(user -> follow(written, user, bob, true));
+        follow(written, alice, far, true);
+        follow(written, bob, far, true);
+        follow(written, bob, alice, true);
+        follow(written, bob, users.get(2), true);
+        follow(written, bob, users.get(2), false);
+        written.snapshotIfDirty();
+
+        FollowGraphIndex loaded = index(snapshot);
+        ReflectionTestUtils.invokeMethod(loaded, "loadSnapshot");
+
+        assertTrue(loaded.isReady());
+        // Every user follows bob, including bob himself
+        assertEquals(300, loaded.followerCount(bob));
+        assertEquals(2, loaded.followingCount(alice));
+        assertEquals(3, loaded.followingCount(bob));
+        assertTrue(loaded.isFollowing(alice, far));
+        assertFalse(loaded.isFollowing(bob, users.get(2)));
+        assertTrue(loaded.isMutual(alice, bob));
+        assertFalse(loaded.isMutual(alice, far));
+        assertEquals(List.of(bob, far), loaded.commonFollowing(alice, bob, 10));
+        assertEquals(List.of(bob), loaded.commonFollowing(alice, bob, 1));
+    }
+
+    @Test
+    void intersectMergesListsOfSimilarSize() {
+        int[] first = {1, 3, 5, 7, 9, -1};
+        int[] second = {3, 4, 5, 9, 10};
+
+        assertArrayEquals(new int[]{3, 5, 9}, FollowGraphIndex.intersect(first, 5, second, 5, 10));
+        assertArrayEquals(new int[]{3, 5}, FollowGraphIndex.intersect(first, 5, second, 5, 2));
+    }
+
+    @Test
+    void intersectBinarySearchesAMuchLongerList() {
+        int[] evens = IntStream.range(0, 1000).map(i -> i * 2).toArray();
+        int[] few = {10, 501, 998, 1998};
+
+        // Either argument order takes the short list as the probe
+        assertArrayEquals(new int[]{10, 998, 1998}, FollowGraphIndex.intersect(few, 4, evens, 1000, 10));
+        assertArrayEquals(new int[]{10, 998, 1998}, FollowGraphIndex.intersect(evens, 1000, few, 4, 10));
+        assertArrayEquals(new int[]{10}, FollowGraphIndex.intersect(few, 4, evens, 1000, 1));
+        assertArrayEquals(new int[0], FollowGraphIndex.intersect(new int[]{1, 3}, 2, evens, 1000, 10));
+    }
+
+    private static FollowGraphIndex index(Path snapshot) {
+        FollowGraphIndex index = new FollowGraphIndex(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "snapshotPath", snapshot.toString());
+        index.init();
+        return index;
+    }
+
+    private static void follow(FollowGraphIndex index, UUID follower, UUID followee, boolean followed) {
+        index.onFollowChanged(new FollowChangedEvent(follower.toString(), followee.toString(), followed));
+    }
+}
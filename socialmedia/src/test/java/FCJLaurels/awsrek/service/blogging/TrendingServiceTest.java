@@ -0,0 +1,104 @@
+package FCJLaurels.awsrek.service.blogging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Ranking from engagement events alone (no rebuild): 12 h half-life, likes weigh 1, comments 3.
+ */
+class TrendingServiceTest {
+
+    private TrendingService trending;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        trending = new TrendingService(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(trending, "halfLifeHours", 12.0);
+        ReflectionTestUtils.setField(trending, "capacity", 100);
+        ReflectionTestUtils.setField(trending, "windowHours", 72L);
+        ReflectionTestUtils.setField(trending, "postWeight", 1.0);
+        ReflectionTestUtils.setField(trending, "likeWeight", 1.0);
+        ReflectionTestUtils.setField(trending, "commentWeight", 3.0);
+        trending.init();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void weightsHalveEveryHalfLife() {
+        engage("comment", EngagementChangedEvent.Kind.COMMENT, true, now);
+        engage("likes", EngagementChangedEvent.Kind.LIKE, true, now);
+        engage("likes", EngagementChangedEvent.Kind.LIKE, true, now);
+        // 4 likes two half-lives ago are worth 1 now; 5 would be worth 1.25
+        for (int i = 0; i < 5; i++) {
+            engage("old", EngagementChangedEvent.Kind.LIKE, true, now.minusHours(24));
+        }
+        engage("single", EngagementChangedEvent.Kind.LIKE, true, now);
+
+        assertEquals(List.of("comment", "likes", "old", "single"), trending.page(null, 10).blogIds());
+    }
+
+    @Test
+    void scoresFarFromTheLandmarkStayOrdered() {
+        // Thousands of half-lives out: e^(t / tau) alone would overflow to infinity
+        LocalDateTime later = now.plusYears(5);
+        engage("two", EngagementChangedEvent.Kind.LIKE, true, later);
+        engage("two", EngagementChangedEvent.Kind.LIKE, true, later);
+        engage("one", EngagementChangedEvent.Kind.LIKE, true, later);
+        engage("today", EngagementChangedEvent.Kind.COMMENT, true, now);
+
+        assertEquals(List.of("two", "one", "today"), trending.page(null, 10).blogIds());
+    }
+
+    @Test
+    void removingAllEngagementSinksTheBlog() {
+        engage("undone", EngagementChangedEvent.Kind.LIKE, true, now);
+        engage("undone", EngagementChangedEvent.Kind.LIKE, false, now);
+        engage("stale", EngagementChangedEvent.Kind.LIKE, true, now.minusHours(48));
+        // Nothing to take away from a blog that isn't ranked
+        engage("unknown", EngagementChangedEvent.Kind.LIKE, false, now);
+
+        assertEquals(List.of("stale", "undone"), trending.page(null, 10).blogIds());
+    }
+
+    @Test
+    void removalsFromBeforeTheLandmarkAreIgnored() {
+        engage("kept", EngagementChangedEvent.Kind.LIKE, true, now);
+        engage("kept", EngagementChangedEvent.Kind.LIKE, true, now);
+        engage("other", EngagementChangedEvent.Kind.LIKE, true, now);
+        // Likes from just before the landmark were never counted, so taking them back must not cancel today's
+        engage("kept", EngagementChangedEvent.Kind.LIKE, false, now.minusHours(1));
+        engage("kept", EngagementChangedEvent.Kind.LIKE, false, now.minusHours(1));
+
+        assertEquals(List.of("kept", "other"), trending.page(null, 10).blogIds());
+    }
+
+    @Test
+    void cursorContinuesBelowThePreviousPage() {
+        engage("a", EngagementChangedEvent.Kind.COMMENT, true, now);
+        engage("b", EngagementChangedEvent.Kind.LIKE, true, now);
+        engage("b", EngagementChangedEvent.Kind.LIKE, true, now);
+        engage("c", EngagementChangedEvent.Kind.LIKE, true, now);
+
+        TrendingService.RankedPage first = trending.page(null, 2);
+        assertEquals(List.of("a", "b"), first.blogIds());
+        assertNotNull(first.nextCursor());
+
+        TrendingService.RankedPage second = trending.page(first.nextCursor(), 2);
+        assertEquals(List.of("c"), second.blogIds());
+        assertNull(second.nextCursor());
+    }
+
+    private void engage(String blogId, EngagementChangedEvent.Kind kind, boolean added, LocalDateTime at) {
+        trending.onEngagementChanged(new EngagementChangedEvent(blogId, kind, added, at));
+    }
+}